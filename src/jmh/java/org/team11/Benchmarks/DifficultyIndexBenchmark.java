@@ -0,0 +1,78 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/25/2026
+ * Time: 4:30 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Benchmarks
+ * Class: DifficultyIndexBenchmark
+ *
+ * Description:
+ * Measures scoring and sorting a corpus by difficulty, up to a million random words, and
+ * drawing words from a difficulty band. Building should stay under a second at a million words.
+ * **************************************
+ */
+package org.team11.Benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.team11.TypingMechanism.DictionaryLoader;
+import org.team11.TypingMechanism.DifficultyIndex;
+import org.team11.TypingMechanism.WordIndex;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DifficultyIndexBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int words;
+
+    // The random corpus
+    private WordIndex index;
+
+    // The corpus sorted by difficulty
+    private DifficultyIndex byDifficulty;
+
+    private final Random rand = new Random(205);
+
+    @Setup
+    public void setUp() {
+        // Random lowercase words of 2 to 11 letters, one per line
+        Random letters = new Random(11);
+        ByteBuffer data = ByteBuffer.allocate(words * 12);
+        for (int i = 0; i < words; i++) {
+            int length = 2 + letters.nextInt(10);
+            for (int c = 0; c < length; c++) {
+                data.put((byte) ('a' + letters.nextInt(26)));
+            }
+            data.put((byte) '\n');
+        }
+        data.flip();
+        index = DictionaryLoader.index(data);
+        byDifficulty = DifficultyIndex.build(index);
+    }
+
+    @Benchmark
+    public DifficultyIndex build() {
+        return DifficultyIndex.build(index);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<String> band() {
+        return byDifficulty.band(8, 10, 16, rand);
+    }
+}
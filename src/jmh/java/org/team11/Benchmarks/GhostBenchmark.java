@@ -0,0 +1,62 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/20/2026
+ * Time: 1:40 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Benchmarks
+ * Class: GhostBenchmark
+ *
+ * Description:
+ * Measures building a Ghost without a JavaFX toolkit: with no node at all, as the canvas
+ * renderer does, and asking for a node while no toolkit is running, which fails and falls back.
+ * Taking a ghost from a warm GhostPool is measured for comparison.
+ * **************************************
+ */
+package org.team11.Benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.team11.Ghosts.Ghost;
+import org.team11.Ghosts.GhostPool;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GhostBenchmark {
+
+    // A pool with one ghost ready for reuse
+    private GhostPool pool;
+
+    @Setup
+    public void setUp() {
+        pool = new GhostPool(GhostPool.DEFAULT_CAPACITY, false);
+        pool.release(pool.acquire("warm"));
+    }
+
+    @Benchmark
+    public Ghost withoutNode() {
+        return new Ghost("frenzy", false);
+    }
+
+    @Benchmark
+    public Ghost withoutToolkit() {
+        return new Ghost("frenzy");
+    }
+
+    @Benchmark
+    public Ghost pooled() {
+        Ghost ghost = pool.acquire("frenzy");
+        pool.release(ghost);
+        return ghost;
+    }
+}
@@ -0,0 +1,64 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/20/2026
+ * Time: 1:55 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Benchmarks
+ * Class: GhostFxBenchmark
+ *
+ * Description:
+ * Measures building a Ghost with its scene-graph node while a JavaFX toolkit is running.
+ * The toolkit is started once per fork; it needs a display, so this benchmark cannot run
+ * on a headless machine (exclude it with -PjmhArgs="-e GhostFx").
+ * **************************************
+ */
+package org.team11.Benchmarks;
+
+import javafx.application.Platform;
+import org.openjdk.jmh.annotations.*;
+import org.team11.Ghosts.Ghost;
+import org.team11.Ghosts.GhostPool;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GhostFxBenchmark {
+
+    // A pool with one ghost ready for reuse
+    private GhostPool pool;
+
+    @Setup
+    public void setUp() {
+        Platform.startup(() -> { });
+        pool = new GhostPool();
+        pool.release(pool.acquire("warm"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        Platform.exit();
+    }
+
+    @Benchmark
+    public Ghost withNode() {
+        return new Ghost("frenzy");
+    }
+
+    @Benchmark
+    public Ghost pooled() {
+        Ghost ghost = pool.acquire("frenzy");
+        pool.release(ghost);
+        return ghost;
+    }
+}
@@ -0,0 +1,126 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/20/2026
+ * Time: 1:20 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Benchmarks
+ * Class: HandleUserInputBenchmark
+ *
+ * Description:
+ * Measures matching a submitted or typed word with 10, 100 and 1,000 ghosts on screen.
+ * KeyFrenzyGameController.handleUserInput posts the word to the GameEngine, so the benchmarks
+ * run the engine directly, without a JavaFX toolkit. A killed ghost is spawned again at once,
+ * so the number of ghosts on screen stays the same, and the score is reset after every kill so
+ * the session never reaches its last level and ends.
+ * **************************************
+ */
+package org.team11.Benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.team11.GameEngine.GameEngine;
+import org.team11.GameEngine.GameListener;
+import org.team11.GameEngine.ManualClock;
+import org.team11.TypingMechanism.DictionaryLoader;
+import org.team11.TypingMechanism.WordDictionary;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HandleUserInputBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int ghosts;
+
+    // The session with the ghosts on screen
+    private GameEngine engine;
+
+    // The words of the ghosts on screen
+    private String[] words;
+
+    // The next word to be submitted
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        WordDictionary dictionary = new WordDictionary(DictionaryLoader.load(), new Random(205));
+        engine = new GameEngine(new ManualClock(), dictionary::getWord, new Random(205), 750, 570,
+                new GameListener() { });
+        words = new String[ghosts];
+        for (int i = 0; i < ghosts; i++) {
+            words[i] = dictionary.getWord(1 + i % 7);
+            engine.spawn(words[i], 0, i);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void checkSession() {
+        // An ended session ignores every submission, the numbers would time a no-op
+        if (engine.isOver() || engine.getGhostCount() != ghosts) {
+            throw new IllegalStateException("The session changed during the iteration: over="
+                    + engine.isOver() + ", ghosts=" + engine.getGhostCount());
+        }
+    }
+
+    /**
+     * Puts a ghost back after a kill, and keeps the score away from the next level
+     * @param word of the killed ghost
+     */
+    private void respawn(String word) {
+        engine.spawn(word, 0, 0);
+        engine.setScore(0);
+    }
+
+    /**
+     * @return the word of a ghost on screen, a different one every call
+     */
+    private String nextWord() {
+        String word = words[next];
+        next = (next + 1) % words.length;
+        return word;
+    }
+
+    @Benchmark
+    public boolean submitHit() {
+        String word = nextWord();
+        boolean killed = engine.submit(word);
+        respawn(word);
+        return killed;
+    }
+
+    @Benchmark
+    public boolean submitMiss() {
+        return engine.submit("qzxj");
+    }
+
+    @Benchmark
+    public boolean postAndDrain() {
+        String word = nextWord();
+        engine.post(e -> e.submit(word));
+        engine.drainCommands();
+        respawn(word);
+        return engine.isOver();
+    }
+
+    @Benchmark
+    public boolean typeWord() {
+        String word = nextWord();
+        boolean killed = engine.retype(word);
+        if (killed) {
+            respawn(word);
+        }
+        return killed;
+    }
+}
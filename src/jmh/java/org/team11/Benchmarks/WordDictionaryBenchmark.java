@@ -0,0 +1,78 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/20/2026
+ * Time: 1:00 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Benchmarks
+ * Class: WordDictionaryBenchmark
+ *
+ * Description:
+ * Measures loading the dictionary, building a WordDictionary, and drawing a word at each level.
+ * **************************************
+ */
+package org.team11.Benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.team11.TypingMechanism.DictionaryLoader;
+import org.team11.TypingMechanism.WordDictionary;
+import org.team11.TypingMechanism.WordIndex;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WordDictionaryBenchmark {
+
+    @Param({"1", "2", "3", "4", "5", "6", "7"})
+    public int level;
+
+    // The index shared by the dictionaries
+    private WordIndex index;
+
+    // The dictionary words are drawn from
+    private WordDictionary dictionary;
+
+    @Setup
+    public void setUp() throws IOException {
+        index = DictionaryLoader.load();
+        dictionary = new WordDictionary(index, new Random(205));
+    }
+
+    @Benchmark
+    public WordIndex loadIndex() throws IOException {
+        return DictionaryLoader.load();
+    }
+
+    @Benchmark
+    public WordDictionary construct() {
+        // A session that reads the file itself, instead of drawing from the shared index
+        return new WordDictionary(WordDictionary.loadFileIntoMap(), new Random(205));
+    }
+
+    @Benchmark
+    public WordDictionary constructSession() {
+        return new WordDictionary(new Random(205));
+    }
+
+    @Benchmark
+    public WordDictionary constructOverIndex() {
+        return new WordDictionary(index, new Random(205));
+    }
+
+    @Benchmark
+    public String getWord() {
+        return dictionary.getWord(level);
+    }
+}
@@ -2,6 +2,8 @@ module csci205_final_project {
     requires java.base;
     requires java.desktop;
     requires java.sql;
+    requires java.management;
+    requires jdk.jfr;
     requires javafx.graphics;
     requires javafx.controls;
     requires javafx.fxml;
@@ -11,5 +13,9 @@ module csci205_final_project {
     opens org.team11.GameController to javafx.fxml;
     opens org.team11.Ghosts to javafx.fxml;
     exports org.team11.TypingMechanism;
+    exports org.team11.Assets;
+    exports org.team11.GameEngine;
+    exports org.team11.Simulation;
+    exports org.team11.Metrics;
     opens org.team11.TypingMechanism to javafx.fxml;
 }
\ No newline at end of file
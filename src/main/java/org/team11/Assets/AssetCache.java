@@ -0,0 +1,188 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/18/2026
+ * Time: 7:30 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Assets
+ * Class: AssetCache
+ *
+ * Description:
+ * A process-wide cache for the images, effects, paints and fonts used by the game.
+ * Each asset is decoded or built once, the first time it is asked for, and the same
+ * instance is handed out afterwards; callers must treat the shared instances as read-only.
+ * Assets are built outside of the map's locks, so a slow asset such as the dictionary never
+ * blocks the other ones, and building an asset may load the assets it is made of.
+ * The cache counts its hits and misses so the savings can be checked at runtime.
+ * **************************************
+ */
+package org.team11.Assets;
+
+import javafx.scene.image.Image;
+import javafx.scene.text.Font;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public class AssetCache {
+
+    // The cache shared by the whole application
+    private static final AssetCache SHARED = new AssetCache();
+
+    // Cached assets by key, completed once built; an asset being built is a pending future
+    private final Map<String, CompletableFuture<Object>> assets = new ConcurrentHashMap<>();
+
+    // Number of requests answered from the cache
+    private final LongAdder hits = new LongAdder();
+
+    // Number of requests that had to build the asset
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @return the cache shared by the whole application
+     */
+    public static AssetCache getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the cached asset for a key, building it on the first request.
+     * The factory runs on the calling thread outside of any lock of the map, so it may take its
+     * time and use the cache for other assets; concurrent callers asking for the same key wait
+     * for that one build. A factory must not ask for its own key.
+     * @param key unique name of the asset
+     * @param factory builds the asset when it is not cached yet
+     * @return the shared asset
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Supplier<T> factory) {
+        CompletableFuture<Object> asset = assets.get(key);
+        if (asset == null) {
+            CompletableFuture<Object> building = new CompletableFuture<>();
+            asset = assets.putIfAbsent(key, building);
+            if (asset == null) {
+                misses.increment();
+                return (T) build(key, building, factory);
+            }
+        }
+        hits.increment();
+        try {
+            return (T) asset.join();
+        } catch (CompletionException e) {
+            // Rethrow what the factory of the other caller threw
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Builds an asset and publishes it to the callers waiting for it.
+     * A failed build is not cached, the next request tries again.
+     * @param key unique name of the asset
+     * @param building the pending entry of the asset in the map
+     * @param factory builds the asset
+     * @return the asset
+     */
+    private Object build(String key, CompletableFuture<Object> building, Supplier<?> factory) {
+        try {
+            Object asset = factory.get();
+            building.complete(asset);
+            return asset;
+        } catch (RuntimeException | Error e) {
+            assets.remove(key, building);
+            building.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Decodes an image from the class path once
+     * @param resource path of the image, e.g. "/animation/ghost1.gif"
+     * @return the shared image
+     */
+    public Image getImage(String resource) {
+        return get("image:" + resource, () -> {
+            InputStream stream = AssetCache.class.getResourceAsStream(resource);
+            if (stream == null) {
+                throw new IllegalArgumentException("Image not found: " + resource);
+            }
+            try (stream) {
+                return new Image(stream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Loads a font file from the class path once, which makes its family available by name,
+     * to Font.font() and to the style sheets alike
+     * @param resource path of the font file, e.g. "/font/Valorax.otf"
+     * @return the font loaded from the file
+     */
+    public Font getFontFile(String resource) {
+        return get("font-file:" + resource, () -> {
+            InputStream stream = AssetCache.class.getResourceAsStream(resource);
+            if (stream == null) {
+                throw new IllegalArgumentException("Font not found: " + resource);
+            }
+            try (stream) {
+                Font font = Font.loadFont(stream, 12);
+                if (font == null) {
+                    throw new IllegalArgumentException("Font could not be loaded: " + resource);
+                }
+                return font;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Looks a font up once
+     * @param family name of the font family
+     * @param size of the font
+     * @return the shared font
+     */
+    public Font getFont(String family, double size) {
+        return get("font:" + family + ":" + size, () -> Font.font(family, size));
+    }
+
+    /**
+     * @return the number of requests answered from the cache
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of requests that had to build their asset
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of cached assets
+     */
+    public int size() {
+        return assets.size();
+    }
+}
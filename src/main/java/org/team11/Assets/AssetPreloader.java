@@ -0,0 +1,141 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/23/2026
+ * Time: 9:00 AM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Assets
+ * Class: AssetPreloader
+ *
+ * Description:
+ * Loads assets into the AssetCache on background threads, in parallel, before they are needed.
+ * Every asset is one task; the tasks run on a small pool of daemon threads that goes away once
+ * they are all done, and every finished task reports the progress so a splash screen can show
+ * it. A failed task is reported and skipped: the asset is simply built on first use instead.
+ * A task usually just asks the AssetCache for its asset, so whoever asks for it later gets it
+ * from the cache, or waits for the preloading thread that is still building it.
+ * Image decoding, font loading and reading the dictionary are all safe off the JavaFX thread.
+ * **************************************
+ */
+package org.team11.Assets;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AssetPreloader {
+
+    /** Start of the name of every preloading thread */
+    public static final String THREAD_NAME = "KeyFrenzy-Preload-";
+
+    /**
+     * Told about the progress of the preloading, from the preloading threads
+     */
+    public interface ProgressListener {
+        /**
+         * @param done number of assets loaded so far, failed ones included
+         * @param total number of assets to load
+         */
+        void progress(int done, int total);
+    }
+
+    // Names and loaders of the assets, in the order they are started
+    private final List<String> names = new ArrayList<>();
+    private final List<Runnable> loaders = new ArrayList<>();
+
+    // Completed once every asset was loaded, null before start()
+    private CompletableFuture<Void> done;
+
+    /**
+     * Creates a preloader with nothing to load yet
+     */
+    public AssetPreloader() {
+    }
+
+    /**
+     * Adds an asset to load
+     * @param name of the asset, for the error message if it fails
+     * @param loader loads the asset, usually into the AssetCache
+     * @return this preloader
+     */
+    public synchronized AssetPreloader add(String name, Runnable loader) {
+        if (done != null) {
+            throw new IllegalStateException("The preloader has already started");
+        }
+        names.add(name);
+        loaders.add(loader);
+        return this;
+    }
+
+    /**
+     * Starts loading every asset on background threads
+     * @param threads most threads to load with
+     * @param listener told every time an asset is loaded
+     * @return completed once every asset was loaded or failed
+     */
+    public synchronized CompletableFuture<Void> start(int threads, ProgressListener listener) {
+        if (done != null) {
+            return done;
+        }
+        int total = names.size();
+        if (total == 0) {
+            done = CompletableFuture.completedFuture(null);
+            return done;
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, total)), runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        AtomicInteger loaded = new AtomicInteger();
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[total];
+        for (int i = 0; i < total; i++) {
+            String name = names.get(i);
+            Runnable loader = loaders.get(i);
+            tasks[i] = CompletableFuture.runAsync(() -> {
+                try {
+                    loader.run();
+                } catch (RuntimeException e) {
+                    System.err.println("Could not preload " + name + ": " + e.getMessage());
+                } finally {
+                    listener.progress(loaded.incrementAndGet(), total);
+                }
+            }, pool);
+        }
+        done = CompletableFuture.allOf(tasks).whenComplete((result, error) -> pool.shutdown());
+        return done;
+    }
+
+    /**
+     * Starts loading with one thread per core
+     * @param listener told every time an asset is loaded
+     * @return completed once every asset was loaded or failed
+     */
+    public CompletableFuture<Void> start(ProgressListener listener) {
+        return start(Runtime.getRuntime().availableProcessors(), listener);
+    }
+
+    /**
+     * @return true once every asset was loaded or failed
+     */
+    public synchronized boolean isDone() {
+        return done != null && done.isDone();
+    }
+
+    /**
+     * @return the number of assets to load
+     */
+    public synchronized int size() {
+        return names.size();
+    }
+}
@@ -0,0 +1,85 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/23/2026
+ * Time: 2:00 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Assets
+ * Class: Texture
+ *
+ * Description:
+ * An image already scaled to the size it is shown at, as premultiplied ARGB pixels in a direct
+ * buffer, usually a memory-mapped TextureCache file. toImage() wraps the pixels in a JavaFX
+ * image without copying them.
+ * **************************************
+ */
+package org.team11.Assets;
+
+import javafx.scene.image.PixelBuffer;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+public class Texture {
+
+    private final int width;
+    private final int height;
+
+    // One premultiplied ARGB int per pixel, row by row, in native byte order
+    private final ByteBuffer pixels;
+
+    /**
+     * Creates a texture over its pixels
+     * @param width in pixels
+     * @param height in pixels
+     * @param pixels width * height premultiplied ARGB ints, in native byte order
+     */
+    Texture(int width, int height, ByteBuffer pixels) {
+        if (pixels.capacity() < width * height * Integer.BYTES) {
+            throw new IllegalArgumentException("Not enough pixels for " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.pixels = pixels;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @param x column of the pixel
+     * @param y row of the pixel
+     * @return the premultiplied ARGB value of the pixel
+     */
+    public int getArgb(int x, int y) {
+        return pixels.getInt((y * width + x) * Integer.BYTES);
+    }
+
+    /**
+     * @return the pixels as premultiplied ARGB ints, sharing the texture's memory
+     */
+    public IntBuffer getPixels() {
+        return pixels.duplicate().order(pixels.order()).asIntBuffer();
+    }
+
+    /**
+     * @return a JavaFX image showing the pixels of the texture, which are not copied
+     */
+    public WritableImage toImage() {
+        PixelBuffer<IntBuffer> buffer = new PixelBuffer<>(width, height, getPixels(),
+                PixelFormat.getIntArgbPreInstance());
+        return new WritableImage(buffer);
+    }
+}
@@ -0,0 +1,331 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/23/2026
+ * Time: 2:30 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Assets
+ * Class: TextureCache
+ *
+ * Description:
+ * Scales large images down to the size they are shown at, once, and keeps the result on disk.
+ * The first time an image is asked for at a size, it is decoded at full resolution and scaled
+ * with an area average: every target pixel is the mean of the source pixels it covers, which
+ * keeps fine detail without the aliasing of nearest or bilinear sampling. The pixels are saved
+ * as raw premultiplied ARGB in a cache file; on later launches the file is memory-mapped and
+ * shown as it is, with no decoding and no copy on the Java heap.
+ * A cache file records the size it was built for and a CRC of the source image, so a new
+ * window size gets its own file and a changed image is scaled again.
+ * Images are never scaled up: a target larger than the source keeps the source size.
+ * The files go to the directory in the "keyfrenzy.cacheDir" system property, by default
+ * .keyfrenzy/textures in the user's home directory.
+ * **************************************
+ */
+package org.team11.Assets;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32C;
+
+public class TextureCache {
+
+    /** System property naming the directory of the cache files */
+    public static final String CACHE_DIR_PROPERTY = "keyfrenzy.cacheDir";
+
+    // Start of every cache file, written in native byte order so a file from another
+    // machine is rebuilt instead of misread
+    private static final int MAGIC = 0x4B465458;
+
+    // Version of the file layout
+    private static final int VERSION = 1;
+
+    // Size of the header: magic, version, width, height, source CRC, all padded to 32 bytes
+    private static final int HEADER = 32;
+
+    // The cache shared by the whole application, created on first use
+    private static TextureCache shared;
+
+    // Where the cache files are kept
+    private final Path dir;
+
+    // Number of textures scaled from their source, and read back from a cache file
+    private final LongAdder builds = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * Creates a cache keeping its files in a directory
+     * @param dir of the cache files, created when the first file is written
+     */
+    public TextureCache(Path dir) {
+        this.dir = dir;
+    }
+
+    /**
+     * @return the cache shared by the whole application, in the configured directory
+     */
+    public static synchronized TextureCache getShared() {
+        if (shared == null) {
+            String configured = System.getProperty(CACHE_DIR_PROPERTY);
+            Path dir = configured != null && !configured.isBlank()
+                    ? Path.of(configured)
+                    : Path.of(System.getProperty("user.home"), ".keyfrenzy", "textures");
+            shared = new TextureCache(dir);
+        }
+        return shared;
+    }
+
+    /**
+     * Loads an image from the class path scaled to a size, from the cache file when it is
+     * up to date, otherwise by scaling the image and writing the cache file
+     * @param resource path of the image, e.g. "/animation/background.png"
+     * @param width wanted, in pixels
+     * @param height wanted, in pixels
+     * @return the scaled texture
+     * @throws IOException if the image cannot be read
+     */
+    public Texture load(String resource, int width, int height) throws IOException {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Invalid texture size: " + width + "x" + height);
+        }
+        byte[] source = readResource(resource);
+        CRC32C crc = new CRC32C();
+        crc.update(source);
+        long sourceCrc = crc.getValue();
+
+        Path file = fileFor(resource, width, height);
+        Texture cached = read(file, sourceCrc);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(source));
+        if (image == null) {
+            throw new IOException("Not an image: " + resource);
+        }
+        int sourceWidth = image.getWidth();
+        int sourceHeight = image.getHeight();
+        int targetWidth = Math.min(width, sourceWidth);
+        int targetHeight = Math.min(height, sourceHeight);
+        int[] argb = image.getRGB(0, 0, sourceWidth, sourceHeight, null, 0, sourceWidth);
+        int[] scaled = downscale(argb, sourceWidth, sourceHeight, targetWidth, targetHeight);
+        builds.increment();
+
+        try {
+            write(file, targetWidth, targetHeight, sourceCrc, scaled);
+            Texture written = read(file, sourceCrc);
+            if (written != null) {
+                return written;
+            }
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("Could not write the texture cache " + file + ": " + e.getMessage());
+        }
+        // Without a cache file, keep the pixels in memory
+        ByteBuffer pixels = ByteBuffer.allocateDirect(scaled.length * Integer.BYTES).order(ByteOrder.nativeOrder());
+        pixels.asIntBuffer().put(scaled);
+        return new Texture(targetWidth, targetHeight, pixels);
+    }
+
+    /**
+     * @param resource path of an image on the class path
+     * @return its bytes
+     * @throws IOException if it cannot be read
+     */
+    private static byte[] readResource(String resource) throws IOException {
+        try (InputStream stream = TextureCache.class.getResourceAsStream(resource)) {
+            if (stream == null) {
+                throw new IOException("Image not found: " + resource);
+            }
+            return stream.readAllBytes();
+        }
+    }
+
+    /**
+     * @param resource path of an image on the class path
+     * @param width of the texture
+     * @param height of the texture
+     * @return the cache file of the image at that size
+     */
+    Path fileFor(String resource, int width, int height) {
+        String name = resource.replaceAll("^/+", "").replaceAll("[^A-Za-z0-9._-]", "_");
+        return dir.resolve(name + "-" + width + "x" + height + ".argb");
+    }
+
+    /**
+     * Maps a cache file
+     * @param file the cache file
+     * @param sourceCrc CRC of the current source image
+     * @return the texture, null if there is no file or it is out of date or broken
+     */
+    private Texture read(Path file, long sourceCrc) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        // Mapped copy-on-write, so the pixels can be handed to JavaFX as a writable buffer
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            if (size < HEADER) {
+                return null;
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER).order(ByteOrder.nativeOrder());
+            channel.read(header, 0);
+            header.flip();
+            int magic = header.getInt();
+            int version = header.getInt();
+            int width = header.getInt();
+            int height = header.getInt();
+            long crc = header.getLong();
+            if (magic != MAGIC || version != VERSION || crc != sourceCrc || width <= 0 || height <= 0
+                    || size != HEADER + (long) width * height * Integer.BYTES) {
+                return null;
+            }
+            ByteBuffer pixels = channel.map(FileChannel.MapMode.PRIVATE, HEADER, size - HEADER)
+                    .order(ByteOrder.nativeOrder());
+            return new Texture(width, height, pixels);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes a cache file, replacing the old one only once the new one is complete
+     * @param file the cache file
+     * @param width of the texture
+     * @param height of the texture
+     * @param sourceCrc CRC of the source image
+     * @param pixels premultiplied ARGB pixels of the texture
+     * @throws IOException if the file cannot be written
+     */
+    private void write(Path file, int width, int height, long sourceCrc, int[] pixels) throws IOException {
+        Files.createDirectories(dir);
+        ByteBuffer data = ByteBuffer.allocate(HEADER + pixels.length * Integer.BYTES).order(ByteOrder.nativeOrder());
+        data.putInt(MAGIC).putInt(VERSION).putInt(width).putInt(height).putLong(sourceCrc);
+        data.position(HEADER);
+        data.asIntBuffer().put(pixels);
+        data.rewind();
+
+        Path temp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Scales an image down with an area average. Every target pixel is the mean of the source
+     * pixels it covers, partly covered pixels counting for the part covered. The channels are
+     * averaged premultiplied, so transparent pixels do not darken their neighbours.
+     * @param argb the source pixels, non-premultiplied ARGB, row by row
+     * @param sourceWidth of the source
+     * @param sourceHeight of the source
+     * @param width of the target, at most sourceWidth
+     * @param height of the target, at most sourceHeight
+     * @return the target pixels, premultiplied ARGB, row by row
+     */
+    static int[] downscale(int[] argb, int sourceWidth, int sourceHeight, int width, int height) {
+        // Across: every source row to width columns, four premultiplied channels per pixel
+        float[] rows = new float[width * sourceHeight * 4];
+        double scaleX = (double) sourceWidth / width;
+        float[] pixel = new float[4];
+        for (int y = 0; y < sourceHeight; y++) {
+            for (int x = 0; x < width; x++) {
+                double start = x * scaleX;
+                double end = start + scaleX;
+                float a = 0, r = 0, g = 0, b = 0;
+                for (int sx = (int) start; sx < end && sx < sourceWidth; sx++) {
+                    float weight = (float) (Math.min(end, sx + 1) - Math.max(start, sx));
+                    premultiply(argb[y * sourceWidth + sx], pixel);
+                    a += pixel[0] * weight;
+                    r += pixel[1] * weight;
+                    g += pixel[2] * weight;
+                    b += pixel[3] * weight;
+                }
+                int i = (y * width + x) * 4;
+                rows[i] = a;
+                rows[i + 1] = r;
+                rows[i + 2] = g;
+                rows[i + 3] = b;
+            }
+        }
+
+        // Down: the rows to height rows
+        int[] scaled = new int[width * height];
+        double scaleY = (double) sourceHeight / height;
+        float area = (float) (scaleX * scaleY);
+        for (int y = 0; y < height; y++) {
+            double start = y * scaleY;
+            double end = start + scaleY;
+            for (int x = 0; x < width; x++) {
+                float a = 0, r = 0, g = 0, b = 0;
+                for (int sy = (int) start; sy < end && sy < sourceHeight; sy++) {
+                    float weight = (float) (Math.min(end, sy + 1) - Math.max(start, sy));
+                    int i = (sy * width + x) * 4;
+                    a += rows[i] * weight;
+                    r += rows[i + 1] * weight;
+                    g += rows[i + 2] * weight;
+                    b += rows[i + 3] * weight;
+                }
+                scaled[y * width + x] = (channel(a / area) << 24) | (channel(r / area) << 16)
+                        | (channel(g / area) << 8) | channel(b / area);
+            }
+        }
+        return scaled;
+    }
+
+    /**
+     * @param argb a non-premultiplied ARGB pixel
+     * @param channels receives alpha, red, green and blue, the colors multiplied by alpha
+     */
+    private static void premultiply(int argb, float[] channels) {
+        float alpha = (argb >>> 24) / 255f;
+        channels[0] = argb >>> 24;
+        channels[1] = ((argb >> 16) & 0xFF) * alpha;
+        channels[2] = ((argb >> 8) & 0xFF) * alpha;
+        channels[3] = (argb & 0xFF) * alpha;
+    }
+
+    /**
+     * @param value an averaged channel
+     * @return the channel rounded to a byte
+     */
+    private static int channel(float value) {
+        return Math.min(255, Math.max(0, Math.round(value)));
+    }
+
+    /**
+     * @return the number of textures scaled from their source image
+     */
+    public long getBuilds() {
+        return builds.sum();
+    }
+
+    /**
+     * @return the number of textures read back from a cache file
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+}
@@ -0,0 +1,182 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/23/2026
+ * Time: 4:00 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.GameController
+ * Class: GameBackground
+ *
+ * Description:
+ * The animated background of the game pane: the three 1600x1200 background frames shown in
+ * turn, every half second, as bg.gif did. The frames come from the TextureCache, scaled to the
+ * size of the pane in screen pixels, so a frame takes a few hundred KB instead of 7.5 MB
+ * and a later launch maps them from disk instead of decoding them.
+ * The frames are scaled again, on a background thread, when the pane or the screen scale changes.
+ * **************************************
+ */
+package org.team11.GameController;
+
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.PauseTransition;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundImage;
+import javafx.scene.layout.BackgroundPosition;
+import javafx.scene.layout.BackgroundRepeat;
+import javafx.scene.layout.BackgroundSize;
+import javafx.scene.layout.Region;
+import javafx.stage.Window;
+import javafx.util.Duration;
+import org.team11.Assets.AssetCache;
+import org.team11.Assets.TextureCache;
+import org.team11.Metrics.GameMetrics;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+public class GameBackground {
+
+    // The frames of the animation, in the order of bg.gif
+    static final String[] FRAMES = {
+            "/animation/background2.png", "/animation/background.png", "/animation/background1.png"};
+
+    // Time each frame is shown
+    private static final Duration FRAME_TIME = Duration.millis(500);
+
+    // Time the pane size must stay the same before the frames are scaled again
+    private static final Duration RESIZE_DELAY = Duration.millis(200);
+
+    // Scales the frames, one short-lived daemon thread at a time
+    private static final Executor LOADER = task -> {
+        Thread thread = new Thread(task, GameMetrics.THREAD_PREFIX + "Textures");
+        thread.setDaemon(true);
+        thread.start();
+    };
+
+    // The pane the background is shown on
+    private final Region pane;
+
+    // Shows the next frame every FRAME_TIME
+    private final Timeline timeline;
+
+    // Waits for the pane size to settle
+    private final PauseTransition resize = new PauseTransition(RESIZE_DELAY);
+
+    // The frames at the current size, null until they are loaded
+    private Background[] frames;
+    private int frame;
+
+    // Size in screen pixels of the frames loaded or being loaded
+    private int loadedWidth;
+    private int loadedHeight;
+
+    /**
+     * Creates the background of a pane, it is shown once started
+     * @param pane the game pane
+     */
+    public GameBackground(Region pane) {
+        this.pane = pane;
+        this.timeline = new Timeline(new KeyFrame(FRAME_TIME, event -> nextFrame()));
+        timeline.setCycleCount(Animation.INDEFINITE);
+        resize.setOnFinished(event -> reload());
+        pane.widthProperty().addListener((observable, oldWidth, newWidth) -> resize.playFromStart());
+        pane.heightProperty().addListener((observable, oldHeight, newHeight) -> resize.playFromStart());
+    }
+
+    /**
+     * Shows the background, scaled to the pane once it is laid out
+     */
+    public void start() {
+        reload();
+        timeline.play();
+    }
+
+    /**
+     * Stops the animation, the current frame stays
+     */
+    public void stop() {
+        timeline.stop();
+        resize.stop();
+    }
+
+    /**
+     * Shows the next frame
+     */
+    private void nextFrame() {
+        if (frames != null) {
+            frame = (frame + 1) % frames.length;
+            pane.setBackground(frames[frame]);
+        }
+    }
+
+    /**
+     * Scales the frames to the current size of the pane, on a background thread, unless
+     * they already have that size
+     */
+    private void reload() {
+        double width = Math.max(pane.getWidth(), pane.getMinWidth());
+        double height = Math.max(pane.getHeight(), pane.getMinHeight());
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        Window window = pane.getScene() != null ? pane.getScene().getWindow() : null;
+        double scale = window != null ? window.getOutputScaleX() : 1;
+        int pixelWidth = (int) Math.ceil(width * scale);
+        int pixelHeight = (int) Math.ceil(height * scale);
+        if (pixelWidth == loadedWidth && pixelHeight == loadedHeight) {
+            return;
+        }
+        loadedWidth = pixelWidth;
+        loadedHeight = pixelHeight;
+
+        CompletableFuture.supplyAsync(() -> load(pixelWidth, pixelHeight, width, height), LOADER)
+                .thenAccept(loaded -> Platform.runLater(() -> {
+                    // Keep only the frames of the latest size
+                    if (pixelWidth == loadedWidth && pixelHeight == loadedHeight) {
+                        frames = loaded;
+                        frame %= loaded.length;
+                        pane.setBackground(loaded[frame]);
+                    }
+                }))
+                .exceptionally(e -> {
+                    System.err.println("Could not load the background: " + e.getMessage());
+                    return null;
+                });
+    }
+
+    /**
+     * Loads every frame at a size
+     * @param pixelWidth of the frames, in screen pixels
+     * @param pixelHeight of the frames, in screen pixels
+     * @param width the frames are shown at
+     * @param height the frames are shown at
+     * @return the backgrounds showing the frames
+     */
+    private static Background[] load(int pixelWidth, int pixelHeight, double width, double height) {
+        Background[] loaded = new Background[FRAMES.length];
+        for (int i = 0; i < FRAMES.length; i++) {
+            Image image;
+            try {
+                image = TextureCache.getShared().load(FRAMES[i], pixelWidth, pixelHeight).toImage();
+            } catch (IOException | RuntimeException e) {
+                // Show the frame at full size, scaled by JavaFX
+                System.err.println("Could not scale " + FRAMES[i] + ": " + e.getMessage());
+                image = AssetCache.getShared().getImage(FRAMES[i]);
+            }
+            loaded[i] = new Background(new BackgroundImage(image, BackgroundRepeat.NO_REPEAT,
+                    BackgroundRepeat.NO_REPEAT, BackgroundPosition.CENTER,
+                    new BackgroundSize(width, height, false, false, false, false)));
+        }
+        return loaded;
+    }
+}
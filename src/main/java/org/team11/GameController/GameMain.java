@@ -15,48 +15,150 @@
  * Description:
  * GameMain class serves as the starting point for the KeyFrenzy game application,
  * initializing the graphical user interface (GUI) and displaying the welcome menu to the user.
+ * The heavy assets (fonts, the ghost sprite and the dictionary) are loaded
+ * on background threads from init(), so the welcome menu shows right away; it shows the progress
+ * and the game starts once they are ready.
  * **************************************
  */
 package org.team11.GameController;
 
 import javafx.application.Application;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
 import javafx.stage.Stage;
+import org.team11.Assets.AssetCache;
+import org.team11.Assets.AssetPreloader;
+import org.team11.Assets.TextureCache;
+import org.team11.Metrics.GameMetrics;
+import org.team11.Metrics.GameRecording;
+import org.team11.TypingMechanism.WordDictionary;
+
+import javax.management.JMException;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
 
 public class GameMain extends Application{
 
+    // Completed once the heavy assets are loaded, null until init() starts loading them
+    private static volatile CompletableFuture<Void> preloading;
+
+    // Share of the heavy assets loaded, from 0 to 1, changed on the JavaFX thread
+    private static final SimpleDoubleProperty preloadProgress = new SimpleDoubleProperty();
+
     public static void main(String[] args) {launch(args);}
 
+    /**
+     * @return a preloader for the heavy assets of the game, the ones shown first come first
+     */
+    static AssetPreloader createPreloader() {
+        AssetCache assets = AssetCache.getShared();
+        AssetPreloader preloader = new AssetPreloader();
+        for (String font : new String[]{"/font/FuturaMediumBold.ttf", "/font/FuturaMediumRegular.ttf",
+                "/font/FuturaMediumItalic.ttf", "/font/Valorax.otf"}) {
+            preloader.add(font, () -> assets.getFontFile(font));
+        }
+        preloader.add("/animation/ghost1.gif", () -> assets.getImage("/animation/ghost1.gif"));
+        // Scale the background frames to the game pane, so the first game maps them from disk
+        for (String frame : GameBackground.FRAMES) {
+            preloader.add(frame, () -> {
+                try {
+                    TextureCache.getShared().load(frame, KeyFrenzyGameController.PANE_WIDTH,
+                            KeyFrenzyGameController.PANE_HEIGHT);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        preloader.add("dictionary", WordDictionary::cachedIndex);
+        return preloader;
+    }
+
+    /**
+     * Starts loading the heavy assets in the background, once
+     * @return completed once they are loaded
+     */
+    static synchronized CompletableFuture<Void> startPreloading() {
+        if (preloading == null) {
+            preloading = createPreloader().start((done, total) ->
+                    Platform.runLater(() -> preloadProgress.set((double) done / total)));
+        }
+        return preloading;
+    }
+
+    /**
+     * @return completed once the heavy assets are loaded, already completed if they are
+     * not preloaded, as in tests
+     */
+    static CompletableFuture<Void> getPreloading() {
+        CompletableFuture<Void> started = preloading;
+        return started != null ? started : CompletableFuture.completedFuture(null);
+    }
 
+    /**
+     * @return share of the heavy assets loaded, from 0 to 1
+     */
+    static ReadOnlyDoubleProperty preloadProgressProperty() {
+        return preloadProgress;
+    }
+
+
+    /**
+     * Publishes the game metrics over JMX, so a running game can be watched with jconsole,
+     * starts a flight recording if one was asked for and starts loading the heavy assets
+     * @throws Exception if the application fails to initialize
+     */
     @Override
     public void init() throws Exception {
         super.init();
-
+        try {
+            GameMetrics.register();
+        } catch (JMException e) {
+            System.err.println("Could not publish the game metrics: " + e.getMessage());
+        }
+        try {
+            GameRecording.startIfConfigured();
+        } catch (IOException e) {
+            System.err.println("Could not start the flight recording: " + e.getMessage());
+        }
+        startPreloading();
     }
 
     /**
      * Sets up the primary stage by loading the FXML file containing the welcome menu layout,
      * configuring the stage with the loaded scene, and displaying the stage.
+     * The same stage shows the game and the game over screen later on.
      * @param primaryStage , sets up and defines the appearance of the initial scene
      * @throws IOException input exception
      */
     @Override
     public void start(Stage primaryStage) throws IOException {
 
-        // Load the FXML file. Obtain the root of the scene graph
-        FXMLLoader loader = new FXMLLoader();
-        loader.setLocation(getClass().getResource("/fxml/welcomeMenu.fxml"));
-        Parent root = loader.load();
+        // Every view of the game is shown in the primary stage
+        SceneSwitch scenes = SceneSwitch.init(primaryStage);
+        scenes.showWelcomeMenu();
+
+        // Parse the game over screen once the menu is up, so it shows instantly later
+        Platform.runLater(() -> {
+            try {
+                scenes.preload(SceneSwitch.GAME_OVER);
+            } catch (IOException e) {
+                System.err.println("Could not preload the game over screen: " + e.getMessage());
+            }
+        });
+    }
 
-        // Set up the stage and show it
-        primaryStage.setTitle("KeyFrenzy Welcome Menu");
-        primaryStage.setScene(new Scene(root));
-        primaryStage.sizeToScene();
-        primaryStage.show();
+    /**
+     * Withdraws the game metrics and writes the flight recording when the application exits
+     * @throws Exception if the application fails to stop
+     */
+    @Override
+    public void stop() throws Exception {
+        GameMetrics.unregister();
+        GameRecording.stop();
+        super.stop();
     }
 }
 
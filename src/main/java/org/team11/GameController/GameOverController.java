@@ -20,13 +20,9 @@ package org.team11.GameController;
 
 import javafx.application.Platform;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Text;
-import javafx.stage.Stage;
 
 import java.io.IOException;
 
@@ -62,22 +58,8 @@ public class GameOverController {
     @FXML
     public void onRestartButtonClick() {
         try {
-            Stage primaryStage = new Stage();
-            // Load the FXML file. Obtain the root of the scene graph
-            FXMLLoader loader = new FXMLLoader();
-            loader.setLocation(getClass().getResource("/fxml/welcomeMenu.fxml"));
-            Parent root = loader.load();
-
-            // Set up the stage and show it
-            primaryStage.setTitle("Hello FXML!");
-            primaryStage.setScene(new Scene(root));
-            primaryStage.sizeToScene();
-            primaryStage.show();
-
-
-            // Close the current (game over) stage
-            Stage currentStage = (Stage) (buttonPlayAgain).getScene().getWindow();
-            currentStage.close();
+            // Back to the welcome menu, parsed once and reused
+            SceneSwitch.getShared().showWelcomeMenu();
 
         } catch (IOException e) {
             e.printStackTrace(); // Handle loading error
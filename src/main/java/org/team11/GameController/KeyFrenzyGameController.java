@@ -14,8 +14,10 @@
  *
  * Description: This class serves as the main view controller for the Key Frenzy game,
  *  managing all elements displayed on the screen during gameplay.
- * It handles the generation and animation of ghosts carrying words for the player to type,
- * tracks the player's score and health, and provides functionality for pausing and ending the game.
+ * The rules themselves (spawning, scoring, levels, lives and expiry) live in the GameEngine;
+ * this class feeds it the player's typing, shows the ghosts it spawns, and updates the labels
+ * and health bar from the events it sends. It also provides pausing and ending the game.
+ * Setting the keyfrenzy.typoTolerance property turns on the typo-tolerant mode of the engine.
  * Additionally, it initializes the scene graph for the game interface
  * Dynamically updates elements such as the message banner and level indicator.
  *
@@ -23,13 +25,9 @@
  */
 package org.team11.GameController;
 
-import javafx.animation.PathTransition;
 import javafx.application.Platform;
-import javafx.fxml.FXMLLoader;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.ProgressBar;
@@ -38,22 +36,39 @@ import javafx.scene.input.KeyCode;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
-import javafx.scene.shape.LineTo;
-import javafx.scene.shape.MoveTo;
-import javafx.scene.shape.Path;
 import javafx.scene.text.Font;
-import javafx.stage.Stage;
-import javafx.util.Duration;
+import org.team11.GameEngine.GameClock;
+import org.team11.GameEngine.GameCommand;
+import org.team11.GameEngine.GameEngine;
+import org.team11.GameEngine.GameListener;
+import org.team11.GameEngine.GhostState;
+import org.team11.GameEngine.WordPrefetcher;
+import org.team11.GameEngine.WordSource;
 import org.team11.Ghosts.Ghost;
 import org.team11.Ghosts.GhostAnimation;
+import org.team11.Ghosts.GhostPool;
+import org.team11.Ghosts.GhostRenderer;
+import org.team11.Metrics.FrameMonitor;
+import org.team11.Metrics.FrameStats;
+import org.team11.Metrics.GameMetrics;
+import org.team11.Metrics.GameRecording;
+import org.team11.Metrics.GhostExpiredEvent;
+import org.team11.Metrics.GhostSpawnEvent;
+import org.team11.Metrics.KillTracer;
+import org.team11.Metrics.LevelUpEvent;
+import org.team11.Metrics.WordSubmittedEvent;
+import org.team11.TypingMechanism.TypoMatcher;
 import org.team11.TypingMechanism.WordDictionary;
-import org.team11.TypingMechanism.WordsSetting;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
 
 public class KeyFrenzyGameController {
 
+    /** System property with the number of typos accepted in a submitted word, 0 by default */
+    public static final String TYPO_TOLERANCE_PROPERTY = "keyfrenzy.typoTolerance";
+
     // A vertical box for the main view
     private VBox root;
 
@@ -69,21 +84,45 @@ public class KeyFrenzyGameController {
     //The grid of the game
     private GridPane gamePane;
 
-    // A list of ghosts to be generated and animated
-    private List<Ghost> ghosts;
+    // The animated background of the game pane
+    private GameBackground gameBackground;
+
+    // The rules of the game: ghosts, typing, score, level and lives
+    private final GameEngine engine;
+
+    // Draws the ghosts, with a node per ghost or into a single canvas
+    private GhostRenderer ghostRenderer;
+
+    // Reusable ghosts, so spawning does not build new scene-graph nodes
+    private GhostPool ghostPool;
+
+    // The game loop, moves every ghost on screen once per frame
+    private GhostAnimation ghostAnimation;
 
-    //A hashmap that aids in animation, attaching words to the animation
-    private final Map<String, GhostAnimation> wordTimers = new HashMap<>();
+    // Frame times, ghost and node counts of the game, shown in an optional overlay
+    private final FrameStats frameStats = new FrameStats();
+    private FrameMonitor frameMonitor;
+
+    // Times every kill from the keystroke to the frame that shows the ghost gone
+    private final KillTracer killTracer = new KillTracer(GameClock.system());
+
+    // Tells the kill tracer about every pulse of the scene showing the game, the scene is shared
+    // by every view so it is removed once the game is over
+    private final Runnable pulseListener = killTracer::pulse;
 
     //The text box where the user types the words
     private TextField userTypeBox;
 
+    //Set while the text box is cleared by the game, its text listener then ignores the change
+    private boolean clearingTypeBox;
+
     //Words from the word dictionary
     private final WordDictionary wordDictionary;
+
+    // Draws the words of the ghosts ahead of time, from its own cursor over the dictionary
+    private final WordPrefetcher wordPrefetcher;
     //A random number
     private final Random rand;
-    // A timer that schedules the animation time
-    private final Timer globalTimer;
 
     // Users desired nickname
     private final String userName;
@@ -91,11 +130,14 @@ public class KeyFrenzyGameController {
     // Keeps track of the players' lives
     private ProgressBar healthBar;
 
-    // Number of lives
-    private int lives;
+    // Checks if the game is over, the game over view is only opened once
+    private boolean gameEnded = false;
+
+    /** Width of the game pane before it is resized */
+    static final int PANE_WIDTH = 750;
 
-    // Checks if the game is paused or not
-    private boolean gamePaused = false;
+    /** Height of the game pane before it is resized */
+    static final int PANE_HEIGHT = 570;
 
     // The width of the game pane
     private double paneWidth;
@@ -103,12 +145,6 @@ public class KeyFrenzyGameController {
     // The height of the game pane
     private double paneHeight;
 
-    // Variable to check the score*/
-    private int score;
-
-    // Stores the level number
-    private int level;
-
 
     /**
      * This is the "view" in the MVC design for the game Key Frenzy. A view class
@@ -116,22 +152,114 @@ public class KeyFrenzyGameController {
      */
     public KeyFrenzyGameController(String username) {
         this.userName = username;
-        this.score = 0;
 
-        this.wordDictionary = new WordDictionary();
+        // The dictionary is shared by every session, and was most likely preloaded while the
+        // welcome menu was shown; this session only gets its own draw state
         this.rand = new Random(System.currentTimeMillis());
-        this.level = 1;
-
+        this.wordDictionary = new WordDictionary(rand);
+        // The worker and, when no word is ready, the game draw from the same cursor, one at a time
+        WordSource words = level -> {
+            synchronized (wordDictionary) {
+                return wordDictionary.getWord(level);
+            }
+        };
+        this.wordPrefetcher = new WordPrefetcher(words, words, WordPrefetcher.DEFAULT_CAPACITY);
+        wordPrefetcher.prepare(1);
+        wordPrefetcher.start();
+        paneWidth = PANE_WIDTH;
+        paneHeight = PANE_HEIGHT;
+
+        // The engine spawns the ghosts and ends the session when its time runs out
+        this.engine = new GameEngine(GameClock.system(), wordPrefetcher, rand,
+                paneWidth, paneHeight, new EngineEvents());
+        // Accessibility: accept submitted words with a few typos, for fewer points
+        engine.setTypoTolerance(Math.min(Integer.getInteger(TYPO_TOLERANCE_PROPERTY, 0), TypoMatcher.MAX_DISTANCE));
 
         initSceneGraph();
 
-        globalTimer = new Timer();
-        globalTimer.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                generateNewWord();
+        // One game loop updates the engine and draws all the ghosts
+        this.ghostAnimation = new GhostAnimation(engine, ghostRenderer, frameStats);
+        ghostAnimation.start();
+
+        // Watch every pulse of the game scene, so stutters can be measured
+        this.frameMonitor = new FrameMonitor(frameStats, root, engine::getGhostCount);
+        frameMonitor.start();
+        GameMetrics.getShared().setFrameStats(frameStats);
+
+        // A kill is rendered once the pulse after it has laid out the scene
+        root.sceneProperty().addListener((observable, oldScene, newScene) -> {
+            if (oldScene != null) {
+                oldScene.removePostLayoutPulseListener(pulseListener);
+            }
+            if (newScene != null && !gameEnded) {
+                newScene.addPostLayoutPulseListener(pulseListener);
+            }
+        });
+    }
+
+    /**
+     * Shows the events of the engine on screen
+     */
+    private class EngineEvents implements GameListener {
+        @Override
+        public void ghostSpawned(GhostState state, double x, double y) {
+            GameMetrics.getShared().ghostSpawned();
+            GhostSpawnEvent event = new GhostSpawnEvent();
+            if (event.shouldCommit()) {
+                event.word = state.getWord();
+                event.level = engine.getLevel();
+                event.ghostsOnScreen = engine.getGhostCount();
+                event.commit();
+            }
+            showGhost(state, x, y);
+        }
+
+        @Override
+        public void ghostKilled(GhostState state) {
+            killTracer.matched();
+            GameMetrics.getShared().ghostKilled();
+            hideGhost(state);
+            clearTypeBox();
+        }
+
+        @Override
+        public void ghostExpired(GhostState state) {
+            GameMetrics.getShared().ghostExpired();
+            GhostExpiredEvent event = new GhostExpiredEvent();
+            if (event.shouldCommit()) {
+                Ghost ghost = ghostAnimation.get(state);
+                event.word = state.getWord();
+                event.lifetime = ghost == null ? 0 : System.currentTimeMillis() - ghost.getCreationTime();
+                event.commit();
             }
-        }, 5, WordsSetting.WORD_DELAY); // 5 is the time delayed before the first ghost appears
+            hideGhost(state);
+        }
+
+        @Override
+        public void scoreChanged(int score) {
+            currentScore.setText("Current Score: " + score);
+        }
+
+        @Override
+        public void levelChanged(int level) {
+            LevelUpEvent event = new LevelUpEvent();
+            if (event.shouldCommit()) {
+                event.level = level;
+                event.score = engine.getScore();
+                event.commit();
+            }
+            updateLevelLbl(level);
+        }
+
+        @Override
+        public void livesChanged(int lives) {
+            updateHealthBar();
+        }
+
+        @Override
+        public void gameOver() {
+            KeyFrenzyGameController.this.gameOver();
+        }
     }
 
     /**
@@ -144,14 +272,19 @@ public class KeyFrenzyGameController {
 
         // Create and configure the game pane
         gamePane = new GridPane();
-        paneWidth = 750;
-        paneHeight = 570;
 
         // Set minimum size for the gamePane
         gamePane.setMinSize(paneWidth, paneHeight); // Set minimum width
 
         this.gamePane.getStyleClass().add("game-pane"); // Apply CSS class to gamePane
 
+        // The background frames are scaled to the size of the pane
+        this.gameBackground = new GameBackground(gamePane);
+        gameBackground.start();
+
+        // Pick the ghost renderer, the canvas renderer needs no node per ghost
+        this.ghostRenderer = GhostRenderer.create(gamePane, paneWidth, paneHeight);
+        this.ghostPool = new GhostPool(GhostPool.DEFAULT_CAPACITY, ghostRenderer.usesNodes());
 
         // Display the username and time used in the corner of the view
         Label usernameLabel = new Label("Username: " + userName);
@@ -164,9 +297,6 @@ public class KeyFrenzyGameController {
         // Create and configure the level banner
         configureLevelBanner();
 
-        // Initialize ghosts
-        this.ghosts = new ArrayList<>();
-
 
         // Create Pause and Stop Game buttons
         Button pauseButton = new Button("Pause");
@@ -175,9 +305,8 @@ public class KeyFrenzyGameController {
         stopButton.getStyleClass().add("stop");
 
         // Add action handlers for the buttons
-        // TODO for later: need to fix the pauseGame button
         pauseButton.setOnAction(event -> pauseGame());
-        stopButton.setOnAction(event -> gameOver());
+        stopButton.setOnAction(event -> engine.post(GameEngine::end));
 
         // Create a health bar (progress bar) to display remaining health
         this.healthBar = new ProgressBar(1.0); // Full health initially
@@ -186,9 +315,6 @@ public class KeyFrenzyGameController {
         Label healthLabel = new Label("Health: ");
         healthLabel.getStyleClass().add("health-label");
 
-        // Initialize lives counter
-        this.lives = 3;
-
         // Layout for health bar and lives counter
         HBox healthBox = new HBox(10, healthLabel, healthBar);
         VBox.setMargin(healthBox, new Insets(10));
@@ -239,214 +365,147 @@ public class KeyFrenzyGameController {
 
             }
         });
+
+        // Match the ghosts on every keystroke
+        userTypeBox.textProperty().addListener((observable, oldText, newText) -> onTypedTextChanged(oldText, newText));
     }
 
     /**
-     * Updates the level banner
+     * Moves the prefix match along with the text box, and destroys a ghost as soon
+     * as its word has been typed completely.
+     * @param oldText the text before the change
+     * @param newText the text after the change
      */
-    private void configureLevelBanner(){
-        leveLbl = new Label();
-        updateLevelLbl(level);
+    private void onTypedTextChanged(String oldText, String newText) {
+        if (clearingTypeBox) {
+            return;
+        }
+        if (newText.length() == oldText.length() + 1 && newText.startsWith(oldText)) {
+            // One more character was typed, the common case
+            char c = newText.charAt(newText.length() - 1);
+            if (!Character.isWhitespace(c)) {
+                // A completed word kills its ghost, which clears the text box
+                applyKey(e -> e.type(c));
+            }
+        } else {
+            // Deleted or pasted text, match again from the start
+            applyKey(e -> e.retype(newText));
+        }
     }
 
     /**
-     * Handle the user input when prompted
-     * @param userInput the String input from user
+     * Clears the text box after a kill. The engine is told directly, instead of through the
+     * text listener, so clearing from inside a keystroke does not apply a second keystroke
+     * in the middle of the first one.
      */
-    public void handleUserInput(String userInput) {
-
-        Iterator<Ghost> iterator = ghosts.iterator();
-        while (iterator.hasNext()) {
-            Ghost ghost = iterator.next();
-            if (ghost.getWord().equalsIgnoreCase(userInput)) {
-                // Word matched, remove the ghost from the game pane
-                destroy(ghost);
-                iterator.remove();
-
-                // Update the score and score label
-                score += 10;
-                currentScore.setText("Current Score: " + score);
-
-                //update the level and check if level has reached max level
-                updateLevel();
-                break;
-            }
+    private void clearTypeBox() {
+        clearingTypeBox = true;
+        try {
+            userTypeBox.clear();
+        } finally {
+            clearingTypeBox = false;
         }
+        engine.resetTyping();
     }
 
-
     /**
-     * Updates the level as the game is played
+     * Applies a keystroke to the engine, stamped with the time it arrived so the kill it
+     * causes can be traced. Key events arrive on the thread running the game loop, the owner
+     * of the engine, so the keystroke is applied at once: a kill clears the text box, and a
+     * keystroke held back to the next frame would be lost with it. Only a keystroke coming
+     * from another thread is posted.
+     * @param command applies the keystroke
      */
-    public void updateLevel() {
-
-        // change level after score reaches LEVEL_SCORE
-        int LEVEL_SCORE = 80;
-        if (score % LEVEL_SCORE == 0){
-            // update the level number
-            level ++;
-            int MAX_LEVEL = 7;
-            if(level <= MAX_LEVEL) {
-                // update label
-                updateLevelLbl(level);
-            }
-            else{
-                // Reached the max level
-                gameOver();
-            }
+    private void applyKey(GameCommand command) {
+        long keyNanos = killTracer.now();
+        GameCommand traced = e -> {
+            killTracer.keyApplied(keyNanos);
+            command.apply(e);
+            killTracer.keyDone();
+        };
+        if (Platform.isFxApplicationThread()) {
+            traced.apply(engine);
+        } else {
+            engine.post(traced);
         }
     }
 
     /**
-     *
-     * @param level, current main
+     * Updates the level banner
      */
-    public void updateLevelLbl(int level){
-        leveLbl.setText("Level: " + level);
-        leveLbl.setFont(Font.font(18));
-        leveLbl.getStyleClass().add("level-label");
+    private void configureLevelBanner(){
+        leveLbl = new Label();
+        updateLevelLbl(engine.getLevel());
     }
 
-
     /**
-     * Starts the timer and generates a new word to be typed by the player
+     * Handle the user input when prompted
+     * @param userInput the String input from user
      */
-    private void generateNewWord() {
-        // Generate the new word
-
-        String word = wordDictionary.getWord(level);
-
-        // Create a timer that ends the game if the player does not type the word in time.
-        Timer wordTimer = new Timer();
-        wordTimer.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                // When the timer runs out (8 seconds), that means the player loses
-                gameOver();
+    public void handleUserInput(String userInput) {
+        // The engine kills the oldest ghost carrying the word, if there is one
+        applyKey(e -> {
+            WordSubmittedEvent event = new WordSubmittedEvent();
+            event.begin();
+            int scanLength = e.getGhostCount();
+            boolean matched = e.submit(userInput);
+            if (event.shouldCommit()) {
+                event.word = userInput;
+                event.matched = matched;
+                event.distance = e.getLastDistance();
+                event.scanLength = scanLength;
+                event.commit();
             }
-        }, WordsSetting.GAME_LENGTH);
-
-        // Add the words to the global map and
-        // draw it on the screen
-        List<Ghost> ghostsOnScreen = createAnimation();
-        ghosts.add(ghostsOnScreen.get(0));
-        ghosts.add(ghostsOnScreen.get(1));
-
-        //Start Ghost Animations
-        startGhostAnimation(ghostsOnScreen.get(0));
-        startGhostAnimation(ghostsOnScreen.get(1));
-
-        //Store ghost animation in the map
-        storeGhostAnimation(word, wordTimer, ghostsOnScreen, 0);
-        storeGhostAnimation(word, wordTimer, ghostsOnScreen, 1);
+        });
     }
 
+
     /**
-     * Stores the ghost animation into the map
+     * Updates the level as the game is played.
+     * Applied to the engine directly, so it must be called on the thread running the game loop.
      */
-    private void storeGhostAnimation(String word, Timer wordTimer, List<Ghost> ghostsOnScreen, int index) {
-        wordTimers.put(word, new GhostAnimation(wordTimer, ghostsOnScreen.get(index)));
+    public void updateLevel() {
+        // change level after score reaches LEVEL_SCORE, the game is over after the max level
+        engine.updateLevel();
     }
 
     /**
-     * Starts the ghost animations
      *
-     * @param ghost to be animated
+     * @param level, current main
      */
-    private void startGhostAnimation(Ghost ghost) {
-        GhostAnimation animation = wordTimers.get(ghost.getWord());
-
-        if (animation != null) {
-            animation.start();
-        }
+    public void updateLevelLbl(int level){
+        leveLbl.setText("Level: " + level);
+        leveLbl.setFont(Font.font(18));
+        leveLbl.getStyleClass().add("level-label");
     }
 
+
     /**
-     * Ties the text on top of the ghost,
-     * Generates a path and an animation, and adds it to the game pane
-     * @return text on top of the ghost that was destroyed
+     * Shows a ghost the engine just spawned, reusing a pooled ghost
+     * @param state the ghost in the engine
+     * @param x where the ghost appears
+     * @param y where the ghost appears
      */
-    private List<Ghost> createAnimation() {
-
-        // Create the text object
-        List<Ghost> ghostsOnScreen = new ArrayList<>();
-
-        long creationTime = System.currentTimeMillis();
-
-        Ghost ghost1 = new Ghost(wordDictionary.getWord(level));
-        Ghost ghost2 = new Ghost(wordDictionary.getWord(level));
+    private void showGhost(GhostState state, double x, double y) {
+        Ghost ghost = ghostPool.acquire(state.getWord());
         //Starts the timer
-        ghost1.setCreationTime(creationTime);
-        ghost2.setCreationTime(creationTime);
-        ghostsOnScreen.add(ghost1);
-        ghostsOnScreen.add(ghost2);
-
-
-        // Run the animation on the FX App thread
-        Platform.runLater(() -> {
-
-            // Get y coords of the words
-            double y1 = rand.nextDouble() * paneHeight;
-            double y2 = rand.nextDouble() * paneHeight;
-
-            // Generate a path for ghosts coming from left side
-            Path path1 = new Path();
-            path1.getElements().add(new MoveTo(-50, y1));
-
-            // Moves the path to the middle of the pane
-            moveToCenter(ghost1, path1);
-
-            // Generate a path for ghosts coming from right side
-            Path path2 = new Path();
-            path2.getElements().add(new MoveTo(paneWidth + 50, y2));
-            // Moves the path to the middle of the pane
-            moveToCenter(ghost2, path2);
-
-            // Add to pane
-            gamePane.getChildren().add(ghost1.getNode());
-            gamePane.getChildren().add(ghost2.getNode());
-
-        });
-
-        return ghostsOnScreen;
+        ghost.setCreationTime(System.currentTimeMillis());
+        ghost.place(x, y);
 
+        // Add to pane
+        ghostRenderer.show(ghost);
+        ghostAnimation.add(state, ghost);
     }
 
     /**
-     * Moves the ghosts to the center of the game pane
-     *
-     * @param path to be moved
+     * Removes a ghost the engine killed or expired from the game pane
+     * @param state the ghost in the engine
      */
-    private void moveToCenter(Ghost ghost, Path path) {
-
-        double centerX = paneWidth/2;
-        double centerY = paneHeight/2;
-
-        path.getElements().add(new LineTo(centerX, centerY));
-
-        // Create a PathTransition to animate the ghost along the path
-        PathTransition pathTransition = new PathTransition();
-        pathTransition.setDuration(Duration.millis(WordsSetting.WORD_DURATION)); // Set animation duration
-        pathTransition.setPath(path); // Set the path for the animation
-        pathTransition.setNode(ghost.getNode()); // Set the node (ghost) to animate
-        pathTransition.setCycleCount(1); // Animation plays once
-
-        // Event handler to handle animation completion (ghost reaches center)
-        if (ghost.isActive()) {
-            pathTransition.setOnFinished(event -> {
-                // Check if the ghost is still in the game pane
-                if (gamePane.getChildren().contains(ghost.getNode())) {
-                    // Ghost is still present in the game pane
-                    lives--; // Decrease health
-                    updateHealthBar(); // Update health bar
-
-                    // Remove the ghost from the game pane
-                    destroy(ghost);
-                }
-            });
-
-            // Start the animation
-            pathTransition.play();
+    private void hideGhost(GhostState state) {
+        Ghost ghost = ghostAnimation.remove(state);
+        if (ghost != null) {
+            destroy(ghost);
+            ghostPool.release(ghost);
         }
     }
 
@@ -456,92 +515,62 @@ public class KeyFrenzyGameController {
      */
 
     public void updateHealthBar() {
-        double healthPercentage = (double) lives / 3.0; // Assuming 3 lives in total
+        double healthPercentage = (double) engine.getLives() / GameEngine.START_LIVES;
         healthBar.setProgress(healthPercentage);
 
-        if (lives <= 0) {
+        if (engine.getLives() <= 0) {
             // Game over logic (no more health)
             gameOver();
         }
     }
 
     /**
-     * Pauses the game
+     * Pauses the game, or resumes it if it is paused
      */
-    // Doesn't work well though
     private void pauseGame() {
-        if (!gamePaused) {
-            gamePaused = true;
-            // Pause any ongoing animations or timers
-            //animationTimer.stop();
-            globalTimer.cancel();
-            // Stop any ghost animations
-            stopGhostAnimations();
-
-        } else {
-            gamePaused = false;
-            // Resume animations or timers
-            // animationTimer.start();
-            // Resume ghost animations
-            resumeGhostAnimations();
-        }
-    }
-
-
-    /**
-     * Stops the ghost animations
-     */
-    private void stopGhostAnimations() {
-        for (Ghost ghost : ghosts) {
-            GhostAnimation animation = wordTimers.get(ghost.getWord());
-            if (animation != null) {
-                animation.stop();
+        engine.post(e -> {
+            if (!e.isPaused()) {
+                // Stop spawning and moving the ghosts
+                e.pause();
+            } else {
+                // Resume spawning and moving the ghosts
+                e.resume();
             }
-        }
+        });
     }
 
-    /**
-     * Stops the ghost animations
-     */
-    private void resumeGhostAnimations() {
-        for (Ghost ghost : ghosts) {
-            GhostAnimation animation = wordTimers.get(ghost.getWord());
-            if (animation != null) {
-                animation.start();
-            }
-        }
-    }
 
     /**
      * Terminates the game
      */
 
     private void gameOver() {
+        if (gameEnded) {
+            return;
+        }
+        gameEnded = true;
+        // Called on the thread running the game loop, the engine is ended right away: a posted
+        // command would never run once the loop below is stopped
+        engine.end();
+        // The ghosts left on screen are no longer active
+        GameMetrics.getShared().ghostsCleared(engine.getGhostCount());
+
         // Perform actions on the main thread
         Platform.runLater(() -> {
-            // Stop all timers
-            globalTimer.cancel();
-            for (GhostAnimation wa : wordTimers.values()) {
-                wa.stop();
+            // Stop the game loop
+            ghostAnimation.stop();
+            frameMonitor.stop();
+            gameBackground.stop();
+            wordPrefetcher.stop();
+            if (root.getScene() != null) {
+                root.getScene().removePostLayoutPulseListener(pulseListener);
             }
+            exportKillLatency();
+            dumpRecording();
 
             try {
-                // Load the FXML file. Obtain the root of the scene graph
-                FXMLLoader loader = new FXMLLoader();
-
-                loader.setLocation(getClass().getResource("/fxml/gameOverView.fxml"));
-
-                Parent root = loader.load();
-                Stage primaryStage = new Stage();
-                // Set up the stage and show it
-                primaryStage.setTitle("Hello FXML!");
-                primaryStage.setScene(new Scene(root));
-                primaryStage.sizeToScene();
-                primaryStage.show();
-
-                // Close the current WelcomeMenu window
-                Stage currentStage = (Stage) labelMessageBanner.getScene().getWindow();
-                currentStage.close();
+                // Switch the stage to the game over screen, parsed once and reused
+                SceneSwitch.getShared().showGameOver();
 
             } catch (IOException e) {
                 throw new RuntimeException(e);
@@ -550,12 +579,43 @@ public class KeyFrenzyGameController {
 
     }
 
+    /**
+     * Writes the keystroke-to-kill latency of the session to a CSV file, in the directory
+     * named by the KillTracer.EXPORT_DIR_PROPERTY system property. Nothing is written
+     * when the property is not set.
+     */
+    private void exportKillLatency() {
+        String dir = System.getProperty(KillTracer.EXPORT_DIR_PROPERTY);
+        if (dir == null || dir.isBlank()) {
+            return;
+        }
+        Path file = Path.of(dir, "kill-latency-" + System.currentTimeMillis() + ".csv");
+        try {
+            killTracer.export(file);
+        } catch (IOException e) {
+            System.err.println("Could not write the kill latency to " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the flight recording of the game so far, if one was started with the
+     * GameRecording.FILE_PROPERTY system property
+     */
+    private void dumpRecording() {
+        try {
+            GameRecording.dump();
+        } catch (IOException e) {
+            System.err.println("Could not write the flight recording: " + e.getMessage());
+        }
+    }
+
     /**
      * Makes the Ghosts disappear from the game pane,
      * @param ghost ,the ghost to be destroyed
      */
     public void destroy(Ghost ghost) {
-        gamePane.getChildren().remove(ghost.getNode());
+        ghostRenderer.hide(ghost);
+        killTracer.destroyed();
     }
 
     /*
@@ -597,11 +657,39 @@ public class KeyFrenzyGameController {
     }
 
     public int getLives() {
-        return lives;
+        return engine.getLives();
+    }
+
+    /**
+     * @return the number of ghosts on screen
+     */
+    public int getActiveGhostCount() {
+        return engine.getGhostCount();
     }
 
     public int getScore() {
-        return score;
+        return engine.getScore();
+    }
+
+    /**
+     * @return the rules of the session, to be used on the thread running the game loop only
+     */
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * @return the frame times, ghost and node counts recorded while playing
+     */
+    public FrameStats getFrameStats() {
+        return frameStats;
+    }
+
+    /**
+     * @return the keystroke-to-kill latency of the session
+     */
+    public KillTracer getKillTracer() {
+        return killTracer;
     }
 
     public Label getCurrentScore() {
@@ -609,14 +697,14 @@ public class KeyFrenzyGameController {
     }
 
     public void setLives(int lives) {
-        this.lives = lives;
+        engine.setLives(lives);
     }
 
     public void setScore(int score) {
-        this.score = score;
+        engine.setScore(score);
     }
 
     public void setLevel(int level) {
-        this.level = level;
+        engine.setLevel(level);
     }
 }
@@ -13,8 +13,11 @@
  * Class: SceneSwitch
  *
  * Description: A utility class designed to manage transitions between different scenes in a game.
- *  It provides methods for switching to specific scenes, such as game over screens or main game screens,
- * with customizable parameters like width, height, and title.
+ * The whole game is shown in a single Stage with a single Scene: switching to the welcome menu,
+ * a game or the game over screen only swaps the root of that scene.
+ * The FXML views are parsed once, the first time they are shown or when they are preloaded, and
+ * kept with their controllers and style sheets, so going back to a view costs a frame instead of
+ * a reload. A game is built fresh for every session, with its own style sheet on its root.
  * This class enhances the game development process by simplifying scene management and improving code readability."
  *
  * **************************************
@@ -23,84 +26,178 @@
 package org.team11.GameController;
 
 import javafx.fxml.FXMLLoader;
-import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.layout.Pane;
 import javafx.stage.Stage;
+import org.team11.Metrics.SceneSwitchEvent;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 public class SceneSwitch {
 
-    // Reference to the game controller
-    private static KeyFrenzyGameController theView;
+    /** The FXML file of the welcome menu */
+    public static final String WELCOME_MENU = "/fxml/welcomeMenu.fxml";
+
+    /** The FXML file of the game over screen */
+    public static final String GAME_OVER = "/fxml/gameOverView.fxml";
+
+    /** The style sheet of the game */
+    public static final String GAME_STYLESHEET = "/KeyFrenzy.css";
+
+    // The scene switch of the application, set when the primary stage is ready
+    private static SceneSwitch shared;
+
+    // The one stage of the game
+    private final Stage stage;
+
+    // The one scene of the stage, its root is swapped
+    private final Scene scene;
+
+    // The parsed views by FXML file
+    private final Map<String, FXMLLoader> views = new HashMap<>();
 
     /**
      * Manage the transitions between different scenes
+     * @param stage the one stage of the game
+     */
+    SceneSwitch(Stage stage) {
+        this.stage = stage;
+        this.scene = new Scene(new Pane());
+        stage.setScene(scene);
+    }
+
+    /**
+     * Sets the stage every view of the game is shown in
+     * @param stage the primary stage
+     * @return the scene switch of the application
      */
-    private SceneSwitch() {
-//        this.theView = new KeyFrenzyGameController();
+    public static SceneSwitch init(Stage stage) {
+        shared = new SceneSwitch(stage);
+        return shared;
     }
 
     /**
-     * Switches the scene to the game over scene
-     * @param node, The JavaFX Node from which the scene switch is initiated.
-     * @param page The path to the FXML file of the game over screen.
-     * @return The controller associated with the game over screen.
-     * @throws IOException if an I/O error occurs.
+     * @return the scene switch of the application
      */
-    public static <T> T changeToGameOver(Node node, String page) throws IOException {
-        return change(node, page, 320, 240, "Typer");
+    public static SceneSwitch getShared() {
+        if (shared == null) {
+            throw new IllegalStateException("SceneSwitch.init has not been called");
+        }
+        return shared;
     }
 
+    /**
+     * Parses a view, once
+     * @param page The path to the FXML file of the view.
+     * @return the loader holding the root and controller of the view
+     * @throws IOException if there's an I/O error
+     */
+    private FXMLLoader load(String page) throws IOException {
+        FXMLLoader loader = views.get(page);
+        if (loader == null) {
+            loader = new FXMLLoader(GameMain.class.getResource(page));
+            loader.load();
+            views.put(page, loader);
+        }
+        return loader;
+    }
 
     /**
-     * Generic method to switch the scene to any specified page with customizable width, height, and title.
-     * @param node The JavaFX Node from which the scene switch is initiated.
+     * Parses a view ahead of time, so showing it later is instant
+     * @param page The path to the FXML file of the view.
+     * @throws IOException if there's an I/O error
+     */
+    public void preload(String page) throws IOException {
+        load(page);
+    }
+
+    /**
+     * Switches the stage to a view, parsing it the first time
      * @param page The path to the FXML file of the target screen.
-     * @param width of scene
-     * @param height of scene
      * @param title of stage
      * @return The controller associated with the target screen.
      * @throws IOException if there's an I/O error
      */
-    public static <T> T change(Node node, String page, int width, int height, String title) throws IOException {
-        Stage stage = (Stage) node.getScene().getWindow();
-        FXMLLoader fxmlLoader = new FXMLLoader(GameMain.class.getResource(page));
-        Scene scene = new Scene(fxmlLoader.load(), width, height);
+    public <T> T show(String page, String title) throws IOException {
+        SceneSwitchEvent event = new SceneSwitchEvent();
+        event.begin();
+        FXMLLoader loader = load(page);
+        showRoot(loader.getRoot(), title);
+        commit(event, page, title);
+        return loader.getController();
+    }
+
+    /**
+     * Switches the stage to the welcome menu
+     * @return the controller of the welcome menu
+     * @throws IOException if the menu cannot be loaded
+     */
+    public WelcomeMenuController showWelcomeMenu() throws IOException {
+        return show(WELCOME_MENU, "KeyFrenzy Welcome Menu");
+    }
+
+    /**
+     * Switches the stage to the game over screen
+     * @return the controller of the game over screen
+     * @throws IOException if the screen cannot be loaded
+     */
+    public GameOverController showGameOver() throws IOException {
+        return show(GAME_OVER, "Key Frenzy Game Over");
+    }
+
+    /**
+     * Switches the stage to a new game
+     * @param game the view of the session to be played
+     */
+    public void showGame(KeyFrenzyGameController game) {
+        SceneSwitchEvent event = new SceneSwitchEvent();
+        event.begin();
+        Parent root = game.getRoot();
+
+        // Attach CSS to style the game view, on its own root so the other views are not affected
+        String stylesheet = Objects.requireNonNull(getClass().getResource(GAME_STYLESHEET)).toExternalForm();
+        if (!root.getStylesheets().contains(stylesheet)) {
+            root.getStylesheets().add(stylesheet);
+        }
+        showRoot(root, "Key Frenzy Typing Game");
+        commit(event, "game", "Key Frenzy Typing Game");
+    }
+
+    /**
+     * Shows a root in the one scene of the stage
+     * @param root of the view
+     * @param title of stage
+     */
+    private void showRoot(Parent root, String title) {
+        scene.setRoot(root);
         stage.setTitle(title);
-        stage.setScene(scene);
+        stage.sizeToScene();
         stage.centerOnScreen();
         stage.show();
-        return fxmlLoader.getController();
     }
 
     /**
-     * Switches the scene to the main game screen.
-     * @param node The JavaFX Node from which the scene switch is initiated.
-     * @param page The path to the FXML file of the main game screen.
-     * @param width of screen
-     * @param height of screen
-     * @param title of stage
-     * @return the controller associated with the main game screen.
-     * @throws IOException if an I/O occurs
+     * Records a scene switch in the flight recording, if its event is enabled
+     * @param event started before the switch
+     * @param page the FXML file switched to, or "game" for the game view, which has none
+     * @param title of the stage
      */
-    public <T> T changeToGame(Node node, String page, int width, int height, String title) throws IOException {
-        Stage primaryStage = (Stage) node.getScene().getWindow();
-        FXMLLoader fxmlLoader = new FXMLLoader(GameMain.class.getResource(page));
-        Scene scene = new Scene(theView.getRoot());
-
-        // Attach CSS to style the game view
-        scene.getStylesheets().add(
-                Objects.requireNonNull(getClass().getResource("/KeyFrenzy.css"))
-                        .toExternalForm());
-        //this.theController = new KeyFrenzyController(this.theModel, this.theView);
-
-        primaryStage.setTitle("Key Frenzy Typing Game");
-        primaryStage.setScene(scene);
-        primaryStage.sizeToScene();
-        primaryStage.show();
-        return fxmlLoader.getController();
+    private static void commit(SceneSwitchEvent event, String page, String title) {
+        if (event.shouldCommit()) {
+            event.page = page;
+            event.title = title;
+            event.commit();
+        }
     }
 
+    /**
+     * @return the one stage of the game
+     */
+    public Stage getStage() {
+        return stage;
+    }
 }
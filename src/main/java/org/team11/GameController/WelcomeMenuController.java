@@ -16,17 +16,19 @@
  * This controller class manages user interactions on the Welcome Menu screen of the Key Frenzy Typing Game.
  * It handles actions such as starting the game and retrieving the user's username from a text field.
  * Upon clicking the Start Game button,
- * it initiates the game and opens the main game screen while closing the current Welcome Menu window."
+ * it initiates the game and switches the stage from the Welcome Menu to the main game screen."
+ * The progress bar shows the assets still loading in the background; a click before they are
+ * loaded starts the game as soon as they are.
  * **************************************
  */
 
 package org.team11.GameController;
 
+import javafx.application.Platform;
 import javafx.fxml.FXML;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TextField;
-import javafx.stage.Stage;
 
 public class WelcomeMenuController {
 
@@ -36,6 +38,9 @@ public class WelcomeMenuController {
     @FXML
     public TextField textFieldUserName;
 
+    @FXML
+    public ProgressBar progressPreload;
+
     /**
      * Once the user hits the Start Game button, we take them to the KeyFrenzyGameController
      */
@@ -46,27 +51,31 @@ public class WelcomeMenuController {
         String userName = textFieldUserName.getText().trim();
 
         if (!userName.isEmpty()) {
-            // Create an instance of KeyFrenzyGameController
-            KeyFrenzyGameController theView = new KeyFrenzyGameController(userName);
-
-            Scene scene = new Scene(theView.getRoot());
-            // Attach a CSS file for styling our app
-            scene.getStylesheets().add(
-                    getClass().getResource("/KeyFrenzy.css")
-                            .toExternalForm());
-
-            Stage primaryStage = new Stage();
-            primaryStage.setTitle("Key Frenzy Typing Game");
-            primaryStage.setScene(scene);
-            primaryStage.sizeToScene();
-            primaryStage.show();
-
-            // Close the current WelcomeMenu window
-            Stage currentStage = (Stage) buttonStartGame.getScene().getWindow();
-            currentStage.close();
+            if (!GameMain.getPreloading().isDone()) {
+                // Wait for the assets without blocking the menu, then start
+                buttonStartGame.setDisable(true);
+                buttonStartGame.setText("LOADING...");
+                GameMain.getPreloading().thenRun(() -> Platform.runLater(() -> startGame(userName)));
+                return;
+            }
+            startGame(userName);
         }
     }
 
+    /**
+     * Switches the stage from the welcome menu to a new game
+     * @param userName the player's nickname
+     */
+    private void startGame(String userName) {
+        // Create an instance of KeyFrenzyGameController
+        KeyFrenzyGameController theView = new KeyFrenzyGameController(userName);
+        SceneSwitch.getShared().showGame(theView);
+
+        // The menu is kept for the next game, ready to be clicked again
+        buttonStartGame.setDisable(false);
+        buttonStartGame.setText("START HERE");
+    }
+
     /**
      * Initialises the start game button and text field username
      */
@@ -75,6 +84,13 @@ public class WelcomeMenuController {
         assert buttonStartGame != null : "fx:id=\"buttonStartGame\" was not injected: check your FXML file 'welcomeMenu.fxml'.";
         assert textFieldUserName != null : "fx:id=\"textFieldUserName\" was not injected: check your FXML file 'welcomeMenu.fxml'.";
 
+        // Show the loading of the heavy assets until they are ready
+        if (progressPreload != null) {
+            progressPreload.progressProperty().bind(GameMain.preloadProgressProperty());
+            progressPreload.setVisible(!GameMain.getPreloading().isDone());
+            GameMain.getPreloading().thenRun(() -> Platform.runLater(() -> progressPreload.setVisible(false)));
+        }
+
     }
 
     /**
@@ -0,0 +1,35 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/19/2026
+ * Time: 1:30 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.GameEngine
+ * Class: GameClock
+ *
+ * Description:
+ * The source of time of the GameEngine. The game uses the system clock; tests and
+ * simulations inject a ManualClock and move time forward themselves.
+ * **************************************
+ */
+package org.team11.GameEngine;
+
+public interface GameClock {
+
+    /**
+     * @return the current time in nanoseconds, only differences between two readings matter
+     */
+    long nanoTime();
+
+    /**
+     * @return a clock reading System.nanoTime()
+     */
+    static GameClock system() {
+        return System::nanoTime;
+    }
+}
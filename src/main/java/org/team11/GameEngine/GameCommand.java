@@ -0,0 +1,31 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/19/2026
+ * Time: 4:30 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.GameEngine
+ * Class: GameCommand
+ *
+ * Description:
+ * A change to the game posted to a GameEngine from any thread, such as a typed character,
+ * a submitted word or a pause. The engine applies it on its owner thread at the start of
+ * the next update, in the order the commands were posted.
+ * **************************************
+ */
+package org.team11.GameEngine;
+
+@FunctionalInterface
+public interface GameCommand {
+
+    /**
+     * Applies the command, on the thread that updates the engine
+     * @param engine the engine the command was posted to
+     */
+    void apply(GameEngine engine);
+}
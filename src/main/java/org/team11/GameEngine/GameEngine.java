@@ -0,0 +1,514 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/19/2026
+ * Time: 2:00 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.GameEngine
+ * Class: GameEngine
+ *
+ * Description:
+ * The rules of Key Frenzy with no JavaFX dependency: spawning, movement, typing, scoring,
+ * levels, lives, expiry and the length of the session.
+ * The engine advances in fixed steps of STEP_NANOS. update() reads the injected GameClock and
+ * runs as many steps as the time since the last update allows; step() runs exactly one, so a
+ * simulation can play a whole session as fast as the CPU allows. Time spent paused is skipped.
+ * The state changes are reported to a GameListener, which the JavaFX view subscribes to.
+ * The engine has a single writer: only the thread calling update(), its owner, reads or changes
+ * the game state, so the rules need no locks. Other threads never call the engine directly,
+ * they post GameCommands to a lock-free queue (many producers, one consumer) that the owner
+ * drains at the start of every update. Listener events are sent on the owner thread.
+ * With typo tolerance on, a submitted word that is not on screen may still kill the ghost with
+ * the closest word within the tolerated edit distance, for fewer points. Short words tolerate
+ * fewer typos, see TypoMatcher.
+ * **************************************
+ */
+package org.team11.GameEngine;
+
+import org.team11.Ghosts.ActiveGhostIndex;
+import org.team11.TypingMechanism.PrefixMatcher;
+import org.team11.TypingMechanism.TypoMatcher;
+import org.team11.TypingMechanism.WordsSetting;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class GameEngine {
+
+    /** Length of one simulation step, in nanoseconds */
+    public static final long STEP_NANOS = 1_000_000_000L / 60;
+
+    /** Number of lives at the start of a session */
+    public static final int START_LIVES = 3;
+
+    /** Points scored for every word typed */
+    public static final int WORD_POINTS = 10;
+
+    /** Points scored for a word submitted with typos, in typo-tolerant mode */
+    public static final int NEAR_POINTS = WORD_POINTS / 2;
+
+    /** Score needed for each level */
+    public static final int LEVEL_SCORE = 80;
+
+    /** The last level, finishing it ends the session */
+    public static final int MAX_LEVEL = 7;
+
+    /** Points before a level up at which the word source is told to prepare the next level */
+    public static final int PREPARE_POINTS = 3 * WORD_POINTS;
+
+    // Length of one step, in seconds
+    private static final double STEP_SECONDS = STEP_NANOS / 1e9;
+
+    // Time before the first ghosts appear
+    private static final long FIRST_SPAWN_NANOS = 5_000_000L;
+
+    // Most time a single update catches up on, so a stalled caller does not run a burst of steps
+    private static final long MAX_UPDATE_NANOS = 250_000_000L;
+
+    // Distance outside the pane at which ghosts appear
+    private static final double SPAWN_MARGIN = 50;
+
+    // Source of time, words and randomness
+    private final GameClock clock;
+    private final WordSource words;
+    private final Random rand;
+
+    // Told about every state change
+    private final GameListener listener;
+
+    // Size of the playing field, the ghosts move towards its center
+    private final double width;
+    private final double height;
+
+    // Positions of the ghosts on screen, and their state indexed by motion handle
+    private final GhostMotion motion = new GhostMotion(64);
+    private GhostState[] ghosts = new GhostState[64];
+
+    // The ghosts on screen by word, and the match of the text being typed
+    private final ActiveGhostIndex<GhostState> activeGhosts = new ActiveGhostIndex<>();
+    private final PrefixMatcher<GhostState> prefixMatcher;
+
+    // Matches submitted words with typos, null unless typo tolerance is on
+    private TypoMatcher typoMatcher;
+
+    // Edit distance of the last submission that killed a ghost, -1 if it missed
+    private int lastDistance = -1;
+
+    // Commands posted by other threads, applied by the owner thread
+    private final ConcurrentLinkedQueue<GameCommand> commands = new ConcurrentLinkedQueue<>();
+
+    // Clock reading of the last update, and time not yet simulated
+    private long lastUpdate;
+    private long pending;
+    private boolean started;
+
+    // Simulated time since the start of the session, and when the next ghosts appear
+    private long elapsed;
+    private long nextSpawn = FIRST_SPAWN_NANOS;
+
+    private int score;
+    private int level = 1;
+    private int lives = START_LIVES;
+    private boolean paused;
+    private boolean over;
+
+    /**
+     * Creates an engine for one session
+     * @param clock source of time
+     * @param words source of the ghosts' words
+     * @param rand used to place the ghosts
+     * @param width of the playing field
+     * @param height of the playing field
+     * @param listener told about every state change
+     */
+    public GameEngine(GameClock clock, WordSource words, Random rand, double width, double height,
+                      GameListener listener) {
+        this.clock = clock;
+        this.words = words;
+        this.rand = rand;
+        this.width = width;
+        this.height = height;
+        this.listener = listener;
+        this.prefixMatcher = new PrefixMatcher<>();
+    }
+
+    /**
+     * Turns typo-tolerant submissions on or off
+     * @param maxDistance edit distance accepted, 0 for exact words only, at most
+     *                    TypoMatcher.MAX_DISTANCE
+     */
+    public void setTypoTolerance(int maxDistance) {
+        if (maxDistance <= 0) {
+            typoMatcher = null;
+            return;
+        }
+        typoMatcher = new TypoMatcher(maxDistance);
+        for (int i = 0; i < getGhostCount(); i++) {
+            typoMatcher.add(ghostAt(i).getKey());
+        }
+    }
+
+    /**
+     * Queues a change to the game, safe to call from any thread
+     * @param command applied by the owner thread at the start of the next update
+     */
+    public void post(GameCommand command) {
+        commands.offer(command);
+    }
+
+    /**
+     * Applies the posted commands, in the order they were posted
+     * @return the number of commands applied
+     */
+    public int drainCommands() {
+        int applied = 0;
+        GameCommand command;
+        while ((command = commands.poll()) != null) {
+            command.apply(this);
+            applied++;
+        }
+        return applied;
+    }
+
+    /**
+     * Applies the posted commands, then runs the steps due since the last update.
+     * Must always be called from the same thread, the owner of the engine.
+     * @return the number of steps run
+     */
+    public int update() {
+        drainCommands();
+        long now = clock.nanoTime();
+        if (!started) {
+            started = true;
+            lastUpdate = now;
+        }
+        long delta = now - lastUpdate;
+        lastUpdate = now;
+        if (paused || over) {
+            return 0;
+        }
+        pending += Math.min(delta, MAX_UPDATE_NANOS);
+        int steps = 0;
+        while (pending >= STEP_NANOS && !over) {
+            pending -= STEP_NANOS;
+            step();
+            steps++;
+        }
+        return steps;
+    }
+
+    /**
+     * Runs one step of STEP_NANOS: spawns the ghosts that are due, moves every ghost,
+     * expires the ghosts that reached the center and ends the session when time runs out
+     */
+    public void step() {
+        if (over) {
+            return;
+        }
+        elapsed += STEP_NANOS;
+        while (elapsed >= nextSpawn) {
+            spawnPair();
+            nextSpawn += WordsSetting.WORD_DELAY * 1_000_000L;
+        }
+
+        int arrivedCount = motion.advance(STEP_SECONDS);
+        int[] arrived = motion.getArrived();
+        for (int i = 0; i < arrivedCount && !over; i++) {
+            expire(ghosts[arrived[i]]);
+        }
+
+        if (elapsed >= WordsSetting.GAME_LENGTH * 1_000_000L) {
+            end();
+        }
+    }
+
+    /**
+     * Spawns two ghosts, one from each side of the field
+     */
+    private void spawnPair() {
+        String word1 = words.nextWord(level);
+        String word2 = words.nextWord(level);
+        spawn(word1, -SPAWN_MARGIN, rand.nextDouble() * height);
+        spawn(word2, width + SPAWN_MARGIN, rand.nextDouble() * height);
+    }
+
+    /**
+     * Spawns a ghost that moves towards the center of the field
+     * @param word to be typed
+     * @param x where the ghost appears
+     * @param y where the ghost appears
+     * @return the ghost
+     */
+    public GhostState spawn(String word, double x, double y) {
+        int id = motion.add(x, y, width / 2, height / 2, WordsSetting.WORD_DURATION / 1000.0);
+        if (id >= ghosts.length) {
+            ghosts = Arrays.copyOf(ghosts, Math.max(id + 1, ghosts.length * 2));
+        }
+        GhostState ghost = new GhostState(id, word);
+        ghosts[id] = ghost;
+        activeGhosts.add(ghost.getKey(), ghost);
+        if (typoMatcher != null) {
+            typoMatcher.add(ghost.getKey());
+        }
+        listener.ghostSpawned(ghost, x, y);
+        prefixMatcher.add(ghost.getKey(), ghost);
+        return ghost;
+    }
+
+    /**
+     * Kills the oldest ghost carrying a submitted word. With typo tolerance on, a word that is
+     * not on screen kills the oldest ghost with the closest word instead, for NEAR_POINTS.
+     * Nothing is killed while the session is paused or over.
+     * @param word typed by the player
+     * @return true if a ghost was killed
+     */
+    public boolean submit(String word) {
+        lastDistance = -1;
+        if (over || paused) {
+            return false;
+        }
+        String key = ActiveGhostIndex.normalize(word);
+        GhostState ghost = activeGhosts.poll(key);
+        int distance = 0;
+        if (ghost == null && typoMatcher != null) {
+            String closest = typoMatcher.closest(key);
+            if (closest != null) {
+                ghost = activeGhosts.poll(closest);
+                distance = typoMatcher.getDistance();
+            }
+        }
+        if (ghost == null) {
+            // No ghost on screen carries the word
+            return false;
+        }
+        lastDistance = distance;
+        kill(ghost, distance == 0 ? WORD_POINTS : NEAR_POINTS);
+        return true;
+    }
+
+    /**
+     * Moves the prefix match by one typed character, and kills a ghost as soon as its word
+     * has been typed completely. Typing is ignored while the session is paused or over.
+     * @param c the typed character
+     * @return true if a ghost was killed, the typed text should then be cleared
+     */
+    public boolean type(char c) {
+        if (over || paused) {
+            return false;
+        }
+        prefixMatcher.type(c);
+        GhostState ghost = prefixMatcher.exactMatch();
+        if (ghost != null && activeGhosts.remove(ghost.getKey(), ghost)) {
+            kill(ghost, WORD_POINTS);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @param ghost an active ghost
+     * @return the number of characters of its word matched by the typed text, 0 for none
+     */
+    public int matchedLength(GhostState ghost) {
+        return prefixMatcher.matchedLength(ghost.getKey());
+    }
+
+    /**
+     * Clears the typed text
+     */
+    public void resetTyping() {
+        prefixMatcher.reset();
+    }
+
+    /**
+     * Matches the whole typed text again, after it was edited or pasted.
+     * Whitespace is skipped; matching stops at the first ghost killed.
+     * @param text the typed text
+     * @return true if a ghost was killed
+     */
+    public boolean retype(CharSequence text) {
+        resetTyping();
+        for (int i = 0; i < text.length(); i++) {
+            if (!Character.isWhitespace(text.charAt(i)) && type(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes a ghost whose word was typed and scores it
+     * @param ghost the matched ghost, already taken out of the active ghost index
+     * @param points scored for the ghost
+     */
+    private void kill(GhostState ghost, int points) {
+        prefixMatcher.remove(ghost.getKey(), ghost);
+        if (typoMatcher != null) {
+            typoMatcher.remove(ghost.getKey());
+        }
+        motion.remove(ghost.getId());
+        ghosts[ghost.getId()] = null;
+        listener.ghostKilled(ghost);
+
+        // Near hits score less, so a level is passed when the score crosses its threshold
+        int before = score;
+        score += points;
+        listener.scoreChanged(score);
+        if (score / LEVEL_SCORE > before / LEVEL_SCORE) {
+            levelUp();
+        }
+        if (level < MAX_LEVEL && LEVEL_SCORE - score % LEVEL_SCORE <= PREPARE_POINTS) {
+            words.prepare(level + 1);
+        }
+    }
+
+    /**
+     * Removes a ghost that reached the center and takes a life
+     * @param ghost the ghost that ran out of time
+     */
+    private void expire(GhostState ghost) {
+        activeGhosts.remove(ghost.getKey(), ghost);
+        prefixMatcher.remove(ghost.getKey(), ghost);
+        if (typoMatcher != null) {
+            typoMatcher.remove(ghost.getKey());
+        }
+        ghosts[ghost.getId()] = null;
+        listener.ghostExpired(ghost);
+
+        lives--;
+        listener.livesChanged(lives);
+        if (lives <= 0) {
+            end();
+        }
+    }
+
+    /**
+     * Moves to the next level every LEVEL_SCORE points, the session ends after MAX_LEVEL
+     */
+    public void updateLevel() {
+        if (score % LEVEL_SCORE == 0) {
+            levelUp();
+        }
+    }
+
+    /**
+     * Moves to the next level, the session ends after MAX_LEVEL
+     */
+    private void levelUp() {
+        level++;
+        if (level <= MAX_LEVEL) {
+            listener.levelChanged(level);
+        } else {
+            end();
+        }
+    }
+
+    /**
+     * Ends the session, the listener is told once
+     */
+    public void end() {
+        if (!over) {
+            over = true;
+            listener.gameOver();
+        }
+    }
+
+    /**
+     * Pauses the session, the ghosts keep their positions and time left
+     */
+    public void pause() {
+        paused = true;
+    }
+
+    /**
+     * Resumes a paused session, the time spent paused is skipped
+     */
+    public void resume() {
+        paused = false;
+        lastUpdate = clock.nanoTime();
+    }
+
+    /**
+     * @return the edit distance of the last submission that killed a ghost, 0 for an exact
+     * word, -1 if it killed none
+     */
+    public int getLastDistance() {
+        return lastDistance;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public boolean isOver() {
+        return over;
+    }
+
+    /**
+     * @return the number of ghosts on screen
+     */
+    public int getGhostCount() {
+        return motion.size();
+    }
+
+    /**
+     * @param index between 0 and getGhostCount() - 1
+     * @return the ghost at that position, the order changes as ghosts come and go
+     */
+    public GhostState ghostAt(int index) {
+        return ghosts[motion.handleAt(index)];
+    }
+
+    /**
+     * @param index between 0 and getGhostCount() - 1
+     * @return the x coordinate of the ghost at that position
+     */
+    public double xAt(int index) {
+        return motion.xAt(index);
+    }
+
+    /**
+     * @param index between 0 and getGhostCount() - 1
+     * @return the y coordinate of the ghost at that position
+     */
+    public double yAt(int index) {
+        return motion.yAt(index);
+    }
+
+    /**
+     * @return the simulated time since the start of the session, in milliseconds
+     */
+    public long getElapsedMillis() {
+        return elapsed / 1_000_000L;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public void setScore(int score) {
+        this.score = score;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public void setLevel(int level) {
+        this.level = level;
+    }
+
+    public int getLives() {
+        return lives;
+    }
+
+    public void setLives(int lives) {
+        this.lives = lives;
+    }
+}
@@ -0,0 +1,67 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/19/2026
+ * Time: 1:50 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.GameEngine
+ * Class: GameListener
+ *
+ * Description:
+ * Receives the events of a GameEngine. The events are sent on the thread that updates
+ * the engine, in the order the rules produced them. Every method does nothing by default.
+ * **************************************
+ */
+package org.team11.GameEngine;
+
+public interface GameListener {
+
+    /**
+     * @param ghost that was just spawned
+     * @param x where it appears
+     * @param y where it appears
+     */
+    default void ghostSpawned(GhostState ghost, double x, double y) {
+    }
+
+    /**
+     * @param ghost whose word was typed
+     */
+    default void ghostKilled(GhostState ghost) {
+    }
+
+    /**
+     * @param ghost that reached the center
+     */
+    default void ghostExpired(GhostState ghost) {
+    }
+
+    /**
+     * @param score the new score
+     */
+    default void scoreChanged(int score) {
+    }
+
+    /**
+     * @param level the new level
+     */
+    default void levelChanged(int level) {
+    }
+
+    /**
+     * @param lives the lives left
+     */
+    default void livesChanged(int lives) {
+    }
+
+    /**
+     * The session is over: out of time, out of lives or past the last level
+     */
+    default void gameOver() {
+    }
+}
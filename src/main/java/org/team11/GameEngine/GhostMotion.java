@@ -0,0 +1,247 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/19/2026
+ * Time: 9:10 AM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.GameEngine
+ * Class: GhostMotion
+ *
+ * Description:
+ * The positions and velocities of every moving ghost, stored as a struct of arrays.
+ * Ghosts are kept densely packed in parallel double arrays (x, y, vx, vy, target, time left)
+ * so one pass over contiguous memory moves all of them; removing a ghost swaps the last one
+ * into its place. Callers refer to a ghost through a stable handle that survives the swaps.
+ * advance() reports the ghosts that reached their target during the step, and removes them.
+ * This class has no JavaFX dependency.
+ * **************************************
+ */
+package org.team11.GameEngine;
+
+import java.util.Arrays;
+
+public class GhostMotion {
+
+    // Dense per-ghost state
+    private double[] x;
+    private double[] y;
+    private double[] vx;
+    private double[] vy;
+    private double[] targetX;
+    private double[] targetY;
+    private double[] remaining;
+    private int[] handleOf;
+
+    // Dense index of every handle, -1 for a free handle
+    private int[] denseOf;
+
+    // Handles ready for reuse
+    private int[] freeHandles;
+    private int freeCount;
+
+    // Number of handles ever given out
+    private int handleCount;
+
+    // Number of moving ghosts
+    private int size;
+
+    // Handles of the ghosts that arrived during the last step
+    private int[] arrived;
+
+    /**
+     * Creates the motion state
+     * @param capacity number of ghosts expected at once, the arrays grow when needed
+     */
+    public GhostMotion(int capacity) {
+        int initial = Math.max(capacity, 4);
+        x = new double[initial];
+        y = new double[initial];
+        vx = new double[initial];
+        vy = new double[initial];
+        targetX = new double[initial];
+        targetY = new double[initial];
+        remaining = new double[initial];
+        handleOf = new int[initial];
+        denseOf = new int[initial];
+        freeHandles = new int[initial];
+        arrived = new int[initial];
+    }
+
+    /**
+     * Starts moving a ghost in a straight line at constant speed
+     * @param startX start position
+     * @param startY start position
+     * @param endX target position
+     * @param endY target position
+     * @param durationSeconds time to reach the target
+     * @return the handle of the ghost
+     */
+    public int add(double startX, double startY, double endX, double endY, double durationSeconds) {
+        if (size == x.length) {
+            grow();
+        }
+        int handle = freeCount > 0 ? freeHandles[--freeCount] : handleCount++;
+        if (handle >= denseOf.length) {
+            denseOf = Arrays.copyOf(denseOf, denseOf.length * 2);
+        }
+        int i = size++;
+        double duration = Math.max(durationSeconds, 1e-9);
+        x[i] = startX;
+        y[i] = startY;
+        vx[i] = (endX - startX) / duration;
+        vy[i] = (endY - startY) / duration;
+        targetX[i] = endX;
+        targetY[i] = endY;
+        remaining[i] = durationSeconds;
+        handleOf[i] = handle;
+        denseOf[handle] = i;
+        return handle;
+    }
+
+    /**
+     * Stops moving a ghost
+     * @param handle of the ghost
+     * @return true if the ghost was moving
+     */
+    public boolean remove(int handle) {
+        if (handle < 0 || handle >= handleCount || denseOf[handle] < 0) {
+            return false;
+        }
+        removeDense(denseOf[handle]);
+        return true;
+    }
+
+    /**
+     * Moves every ghost forward in time. Ghosts that reach their target are snapped onto
+     * it, reported through getArrived() and removed.
+     * @param dtSeconds length of the step
+     * @return the number of ghosts that arrived during the step
+     */
+    public int advance(double dtSeconds) {
+        int arrivedCount = 0;
+        // Walk backwards so a swap-remove only moves ghosts that were already stepped
+        for (int i = size - 1; i >= 0; i--) {
+            remaining[i] -= dtSeconds;
+            if (remaining[i] <= 0) {
+                x[i] = targetX[i];
+                y[i] = targetY[i];
+                arrived[arrivedCount++] = handleOf[i];
+                removeDense(i);
+            } else {
+                x[i] += vx[i] * dtSeconds;
+                y[i] += vy[i] * dtSeconds;
+            }
+        }
+        return arrivedCount;
+    }
+
+    /**
+     * @return the handles of the ghosts that arrived during the last step,
+     * valid up to the count returned by advance()
+     */
+    public int[] getArrived() {
+        return arrived;
+    }
+
+    /**
+     * @return the number of moving ghosts
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index dense position, between 0 and size() - 1
+     * @return the handle of the ghost at that position
+     */
+    public int handleAt(int index) {
+        return handleOf[index];
+    }
+
+    /**
+     * @param index dense position, between 0 and size() - 1
+     * @return the x coordinate of the ghost at that position
+     */
+    public double xAt(int index) {
+        return x[index];
+    }
+
+    /**
+     * @param index dense position, between 0 and size() - 1
+     * @return the y coordinate of the ghost at that position
+     */
+    public double yAt(int index) {
+        return y[index];
+    }
+
+    /**
+     * @param handle of a moving ghost
+     * @return its x coordinate
+     */
+    public double getX(int handle) {
+        return x[denseOf[handle]];
+    }
+
+    /**
+     * @param handle of a moving ghost
+     * @return its y coordinate
+     */
+    public double getY(int handle) {
+        return y[denseOf[handle]];
+    }
+
+    /**
+     * Removes every ghost
+     */
+    public void clear() {
+        while (size > 0) {
+            removeDense(size - 1);
+        }
+    }
+
+    /**
+     * Removes the ghost at a dense position by moving the last ghost into it
+     * @param i dense position
+     */
+    private void removeDense(int i) {
+        int handle = handleOf[i];
+        int last = --size;
+        if (i != last) {
+            x[i] = x[last];
+            y[i] = y[last];
+            vx[i] = vx[last];
+            vy[i] = vy[last];
+            targetX[i] = targetX[last];
+            targetY[i] = targetY[last];
+            remaining[i] = remaining[last];
+            handleOf[i] = handleOf[last];
+            denseOf[handleOf[i]] = i;
+        }
+        denseOf[handle] = -1;
+        if (freeCount == freeHandles.length) {
+            freeHandles = Arrays.copyOf(freeHandles, freeHandles.length * 2);
+        }
+        freeHandles[freeCount++] = handle;
+    }
+
+    /**
+     * Doubles the capacity of the dense arrays
+     */
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        targetX = Arrays.copyOf(targetX, capacity);
+        targetY = Arrays.copyOf(targetY, capacity);
+        remaining = Arrays.copyOf(remaining, capacity);
+        handleOf = Arrays.copyOf(handleOf, capacity);
+        arrived = Arrays.copyOf(arrived, capacity);
+    }
+}
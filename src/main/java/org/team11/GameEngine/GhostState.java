@@ -0,0 +1,58 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/19/2026
+ * Time: 1:45 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.GameEngine
+ * Class: GhostState
+ *
+ * Description:
+ * A ghost as the GameEngine sees it: its word and its id. The position of the ghost lives in
+ * the GhostMotion arrays of the engine under the same id. The id is only unique among the
+ * ghosts on screen; it is handed out again once the ghost was killed or expired.
+ * **************************************
+ */
+package org.team11.GameEngine;
+
+import org.team11.Ghosts.ActiveGhostIndex;
+
+public class GhostState {
+
+    // Handle of the ghost in the motion arrays
+    private final int id;
+
+    // The word to be typed
+    private final String word;
+
+    // The case-folded word
+    private final String key;
+
+    /**
+     * Creates the state of a ghost that was just spawned
+     * @param id handle of the ghost in the motion arrays
+     * @param word to be typed
+     */
+    GhostState(int id, String word) {
+        this.id = id;
+        this.word = word;
+        this.key = ActiveGhostIndex.normalize(word);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getWord() {
+        return word;
+    }
+
+    public String getKey() {
+        return key;
+    }
+}
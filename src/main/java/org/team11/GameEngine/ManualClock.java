@@ -0,0 +1,47 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/19/2026
+ * Time: 1:35 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.GameEngine
+ * Class: ManualClock
+ *
+ * Description:
+ * A GameClock that only moves when told to, so a session can be simulated
+ * faster than real time and with reproducible timing.
+ * **************************************
+ */
+package org.team11.GameEngine;
+
+public class ManualClock implements GameClock {
+
+    // The current time in nanoseconds
+    private long now;
+
+    @Override
+    public long nanoTime() {
+        return now;
+    }
+
+    /**
+     * Moves the clock forward
+     * @param nanos time to add, in nanoseconds
+     */
+    public void advance(long nanos) {
+        now += nanos;
+    }
+
+    /**
+     * Moves the clock forward
+     * @param millis time to add, in milliseconds
+     */
+    public void advanceMillis(long millis) {
+        advance(millis * 1_000_000L);
+    }
+}
@@ -0,0 +1,273 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/24/2026
+ * Time: 10:15 AM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.GameEngine
+ * Class: WordPrefetcher
+ *
+ * Description:
+ * A WordSource that draws the words ahead of time on a background thread, so spawning a ghost
+ * never touches the dictionary. Every level has a bounded ring buffer with a single producer,
+ * the worker thread, and a single consumer, the owner of the engine. The worker keeps the rings
+ * of the wanted levels full: the level being played, and the next one as soon as the engine
+ * reports that the score is close to a level up. Taking a word is two volatile reads and a
+ * volatile write, with no lock and no allocation.
+ * The words are normalized by the worker, so the ghost's key is the word itself.
+ * If a ring is empty, for example on the very first spawn, the word comes from a fallback
+ * source on the calling thread instead; only the worker ever uses the prefetched source.
+ * **************************************
+ */
+package org.team11.GameEngine;
+
+import org.team11.Ghosts.ActiveGhostIndex;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+public class WordPrefetcher implements WordSource {
+
+    /** Name of the worker thread */
+    public static final String THREAD_NAME = "KeyFrenzy-Words";
+
+    /** Default number of words kept ready for each level */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    // Drawn from by the worker thread only
+    private final WordSource source;
+
+    // Drawn from on the calling thread when a ring is empty
+    private final WordSource fallback;
+
+    // One ring per level, index 0 is unused
+    private final WordRing[] rings;
+
+    // Number of words taken from the fallback because a ring was empty
+    private final AtomicLong misses = new AtomicLong();
+
+    // Fills the rings, null until started
+    private volatile Thread worker;
+
+    private volatile boolean running;
+
+    /**
+     * Creates a prefetcher for the levels of the GameEngine
+     * @param source drawn from by the worker thread, it does not need to be thread-safe
+     * @param fallback drawn from by the caller when no word is ready
+     * @param capacity number of words kept ready for each level
+     */
+    public WordPrefetcher(WordSource source, WordSource fallback, int capacity) {
+        this(source, fallback, capacity, GameEngine.MAX_LEVEL);
+    }
+
+    /**
+     * Creates a prefetcher
+     * @param source drawn from by the worker thread, it does not need to be thread-safe
+     * @param fallback drawn from by the caller when no word is ready
+     * @param capacity number of words kept ready for each level, rounded up to a power of two
+     * @param maxLevel the last level with a ring, words of higher levels come from the fallback
+     */
+    public WordPrefetcher(WordSource source, WordSource fallback, int capacity, int maxLevel) {
+        this.source = source;
+        this.fallback = fallback;
+        this.rings = new WordRing[maxLevel + 1];
+        for (int level = 1; level <= maxLevel; level++) {
+            rings[level] = new WordRing(capacity);
+        }
+    }
+
+    /**
+     * Starts the worker thread
+     */
+    public synchronized void start() {
+        if (worker == null) {
+            running = true;
+            worker = new Thread(this::fill, THREAD_NAME);
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    /**
+     * Stops the worker thread, the words left in the rings can still be taken
+     */
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    /**
+     * Takes a ready word, or draws one from the fallback if the ring of the level is empty.
+     * Must always be called from the same thread.
+     * @param level the current level
+     * @return the word of the next ghost
+     */
+    @Override
+    public String nextWord(int level) {
+        WordRing ring = ring(level);
+        if (ring == null) {
+            return fallback.nextWord(level);
+        }
+        if (!ring.wanted) {
+            ring.wanted = true;
+            wake();
+        }
+        String word = ring.poll();
+        if (word == null) {
+            misses.incrementAndGet();
+            return fallback.nextWord(level);
+        }
+        if (ring.size() <= ring.capacity() / 2) {
+            wake();
+        }
+        return word;
+    }
+
+    /**
+     * Starts filling the ring of a level, before its first word is needed
+     * @param level about to be played
+     */
+    @Override
+    public void prepare(int level) {
+        WordRing ring = ring(level);
+        if (ring != null && !ring.wanted) {
+            ring.wanted = true;
+            wake();
+        }
+    }
+
+    /**
+     * @param level of the words
+     * @return the number of words ready for the level
+     */
+    public int ready(int level) {
+        WordRing ring = ring(level);
+        return ring == null ? 0 : ring.size();
+    }
+
+    /**
+     * @return the number of words drawn from the fallback because no word was ready
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @param level of the words
+     * @return the ring of the level, null if there is none
+     */
+    private WordRing ring(int level) {
+        return level > 0 && level < rings.length ? rings[level] : null;
+    }
+
+    /**
+     * Wakes the worker up to refill the rings
+     */
+    private void wake() {
+        Thread thread = worker;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Body of the worker thread: fills the wanted rings, then sleeps until a word is taken
+     */
+    private void fill() {
+        while (running) {
+            for (int level = 1; level < rings.length && running; level++) {
+                WordRing ring = rings[level];
+                if (ring.wanted) {
+                    while (ring.size() < ring.capacity() && running) {
+                        ring.offer(ActiveGhostIndex.normalize(source.nextWord(level)));
+                    }
+                }
+            }
+            if (running) {
+                LockSupport.park(this);
+            }
+        }
+    }
+
+    /**
+     * A bounded ring buffer with one producer thread and one consumer thread.
+     * Each side only writes its own counter, and the volatile counters publish the slots.
+     */
+    static class WordRing {
+
+        // The words, the index of a counter is its value masked
+        private final String[] slots;
+        private final int mask;
+
+        // Number of words taken, written by the consumer only
+        private volatile long head;
+
+        // Number of words added, written by the producer only
+        private volatile long tail;
+
+        // Set by the consumer once the level is played or about to be
+        volatile boolean wanted;
+
+        /**
+         * @param capacity the most words held, rounded up to a power of two
+         */
+        WordRing(int capacity) {
+            int size = capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+            this.slots = new String[size];
+            this.mask = size - 1;
+        }
+
+        /**
+         * Adds a word, from the producer thread
+         * @param word to be added
+         * @return false if the ring is full
+         */
+        boolean offer(String word) {
+            long t = tail;
+            if (t - head == slots.length) {
+                return false;
+            }
+            slots[(int) (t & mask)] = word;
+            tail = t + 1;
+            return true;
+        }
+
+        /**
+         * Takes the oldest word, from the consumer thread
+         * @return the word, or null if the ring is empty
+         */
+        String poll() {
+            long h = head;
+            if (h == tail) {
+                return null;
+            }
+            int slot = (int) (h & mask);
+            String word = slots[slot];
+            slots[slot] = null;
+            head = h + 1;
+            return word;
+        }
+
+        /**
+         * @return the number of words in the ring
+         */
+        int size() {
+            return (int) (tail - head);
+        }
+
+        /**
+         * @return the most words held
+         */
+        int capacity() {
+            return slots.length;
+        }
+    }
+}
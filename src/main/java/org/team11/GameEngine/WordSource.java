@@ -0,0 +1,37 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/19/2026
+ * Time: 1:40 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.GameEngine
+ * Class: WordSource
+ *
+ * Description:
+ * Supplies the words of the ghosts spawned by the GameEngine, usually WordDictionary::getWord
+ * or a WordPrefetcher drawing from it in the background.
+ * **************************************
+ */
+package org.team11.GameEngine;
+
+@FunctionalInterface
+public interface WordSource {
+
+    /**
+     * @param level the current level
+     * @return the word of the next ghost
+     */
+    String nextWord(int level);
+
+    /**
+     * Tells the source that a level is about to be played, so its words can be made ready
+     * @param level the next level
+     */
+    default void prepare(int level) {
+    }
+}
@@ -0,0 +1,115 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/18/2026
+ * Time: 3:40 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Ghosts
+ * Class: ActiveGhostIndex
+ *
+ * Description:
+ * Keeps the ghosts that are currently on screen, keyed by their case-folded word,
+ * so a submitted word finds its ghost in O(1) instead of scanning every ghost.
+ * Several ghosts may carry the same word; they are kept in spawn order and the
+ * oldest one (the closest to the center) is matched first.
+ * The index must be updated whenever a ghost is spawned, killed or expires.
+ * **************************************
+ */
+package org.team11.Ghosts;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+public class ActiveGhostIndex<G> {
+
+    // Ghosts on screen by normalized word, oldest first
+    private final Map<String, ArrayDeque<G>> ghostsByWord = new HashMap<>();
+
+    // Number of ghosts in the index
+    private int size;
+
+    /**
+     * Normalizes a word so that lookups ignore case and surrounding spaces
+     * @param word typed or shown
+     * @return the key used by the index
+     */
+    public static String normalize(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Adds a ghost that was just spawned
+     * @param key normalized word of the ghost
+     * @param ghost the ghost
+     */
+    public void add(String key, G ghost) {
+        ghostsByWord.computeIfAbsent(key, k -> new ArrayDeque<>(2)).addLast(ghost);
+        size++;
+    }
+
+    /**
+     * Removes and returns the oldest ghost carrying the word
+     * @param key normalized word
+     * @return the ghost, or null if no ghost on screen carries the word
+     */
+    public G poll(String key) {
+        ArrayDeque<G> ghosts = ghostsByWord.get(key);
+        if (ghosts == null) {
+            return null;
+        }
+        G ghost = ghosts.pollFirst();
+        if (ghosts.isEmpty()) {
+            ghostsByWord.remove(key);
+        }
+        size--;
+        return ghost;
+    }
+
+    /**
+     * Removes a given ghost, when it is killed or expires
+     * @param key normalized word of the ghost
+     * @param ghost the ghost
+     * @return true if the ghost was in the index
+     */
+    public boolean remove(String key, G ghost) {
+        ArrayDeque<G> ghosts = ghostsByWord.get(key);
+        if (ghosts == null || !ghosts.remove(ghost)) {
+            return false;
+        }
+        if (ghosts.isEmpty()) {
+            ghostsByWord.remove(key);
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * @param key normalized word
+     * @return true if at least one ghost on screen carries the word
+     */
+    public boolean contains(String key) {
+        return ghostsByWord.containsKey(key);
+    }
+
+    /**
+     * @return the number of ghosts on screen
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes every ghost
+     */
+    public void clear() {
+        ghostsByWord.clear();
+        size = 0;
+    }
+}
@@ -0,0 +1,157 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/19/2026
+ * Time: 11:25 AM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Ghosts
+ * Class: CanvasGhostRenderer
+ *
+ * Description:
+ * Paints every ghost into a single Canvas, so the scene graph holds one node no matter how
+ * many ghosts are on screen and JavaFX has nothing per ghost to lay out, style or composite.
+ * The ghost sprite, with its pattern and drop shadow, is rendered once into an image that is
+ * stamped for every ghost; the words are drawn over it in the typed and untyped colors.
+ * The width of every prefix of a word is measured once, when its ghost is shown, so drawing
+ * a frame measures no text. Ghosts drawn this way are built without a node of their own.
+ * **************************************
+ */
+package org.team11.Ghosts;
+
+import javafx.geometry.VPos;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.ImagePattern;
+import javafx.scene.shape.Circle;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
+import org.team11.Assets.AssetCache;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class CanvasGhostRenderer implements GhostRenderer {
+
+    // Radius of the ghost sprite, as in the node renderer
+    private static final double RADIUS = 39;
+
+    // The single node every ghost is painted into
+    private final Canvas canvas;
+
+    // The graphics context of the canvas
+    private final GraphicsContext graphics;
+
+    // The ghost sprite with its effects, rendered once
+    private final Image sprite;
+
+    // The font of the words
+    private final Font font;
+
+    // Measures the words when their ghost is shown
+    private final Text measure;
+
+    // Width of every prefix of the word of each ghost on screen
+    private final Map<Ghost, double[]> prefixWidths = new HashMap<>();
+
+    /**
+     * Creates the renderer and adds its canvas to the game pane
+     * @param pane the game pane
+     * @param width of the game pane
+     * @param height of the game pane
+     */
+    public CanvasGhostRenderer(Pane pane, double width, double height) {
+        this.canvas = new Canvas(width, height);
+        canvas.setMouseTransparent(true);
+        pane.getChildren().add(canvas);
+
+        this.graphics = canvas.getGraphicsContext2D();
+        this.font = Ghost.font();
+        // The pattern and shadow are cached assets too, they are fetched before the sprite is built
+        ImagePattern pattern = Ghost.pattern();
+        DropShadow shadow = Ghost.shadow();
+        this.sprite = AssetCache.getShared().get("ghost.sprite", () -> renderSprite(pattern, shadow));
+        this.measure = new Text();
+        measure.setFont(font);
+    }
+
+    /**
+     * Renders the ghost sprite with its pattern and drop shadow into an image
+     * @param pattern the sprite of the ghosts as a paint
+     * @param shadow the drop shadow of the ghosts
+     * @return the sprite
+     */
+    private static Image renderSprite(ImagePattern pattern, DropShadow shadow) {
+        Circle circle = new Circle(RADIUS, pattern);
+        circle.setEffect(shadow);
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        return circle.snapshot(parameters, null);
+    }
+
+    @Override
+    public boolean usesNodes() {
+        return false;
+    }
+
+    @Override
+    public void show(Ghost ghost) {
+        String word = ghost.getWord();
+        double[] widths = new double[word.length() + 1];
+        for (int i = 1; i <= word.length(); i++) {
+            measure.setText(word.substring(0, i));
+            widths[i] = measure.getLayoutBounds().getWidth();
+        }
+        prefixWidths.put(ghost, widths);
+    }
+
+    @Override
+    public void hide(Ghost ghost) {
+        prefixWidths.remove(ghost);
+    }
+
+    @Override
+    public void beginFrame() {
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        graphics.setFont(font);
+        graphics.setTextAlign(TextAlignment.LEFT);
+        graphics.setTextBaseline(VPos.BOTTOM);
+    }
+
+    @Override
+    public void draw(Ghost ghost, double x, double y) {
+        // Ghost positions are in game pane coordinates
+        double cx = x - canvas.getLayoutX();
+        double cy = y - canvas.getLayoutY();
+        graphics.drawImage(sprite, cx - sprite.getWidth() / 2, cy - sprite.getHeight() / 2);
+
+        double[] widths = prefixWidths.get(ghost);
+        if (widths == null) {
+            return;
+        }
+        // The word sits centered on top of the ghost, the typed part in front
+        double left = cx - widths[widths.length - 1] / 2;
+        double top = cy - RADIUS;
+        int typed = ghost.getHighlighted();
+        if (typed > 0) {
+            graphics.setFill(Ghost.TYPED_COLOR);
+            graphics.fillText(ghost.getTypedPart(), left, top);
+        }
+        graphics.setFill(Ghost.WORD_COLOR);
+        graphics.fillText(ghost.getUntypedPart(), left + widths[typed], top);
+    }
+
+    @Override
+    public void endFrame() {
+    }
+}
@@ -16,39 +16,73 @@
  * The Ghost class encapsulates the characteristics and behavior of ghost entities in the game.
  *It includes the following attributes:
  * word: A string representing the word associated with the ghost that the player needs to type.
+ * key: The case-folded word, computed once and used to look the ghost up in the ActiveGhostIndex.
  * active: A boolean flag indicating whether the ghost is currently active in the game.
  * label: A JavaFX Label object displaying the word associated with the ghost.
+ * The part of the word the player already typed is shown in a second, highlighted label in front of it.
  * node: A JavaFX Pane object containing the graphical representation of the ghost, including its circle shape and label.
  * creationTime: A long value representing the time at which the ghost was created.
  *
  * The class provides a constructor to initialize a Ghost object with a given word and grid size.
- * It also includes a private method, initializeGhost, to set up the visual representation of the ghost using JavaFX element
+ * It also includes a private method, initializeGhost, to set up the visual representation of the ghost using JavaFX element.
+ * The sprite, its pattern, the drop shadow and the font are shared by every ghost through the AssetCache.
+ * A ghost drawn by the CanvasGhostRenderer is built without a node and only carries its word and highlight.
+ * Ghosts are reusable: reset() gives a ghost a new word and release() takes it off duty, so the
+ * GhostPool can hand the same scene-graph nodes out again instead of building new ones
  * the class also provides getter methods to access the attributes of the ghost, such as the word, activity status, graphical node, and creation time
  * **************************************
  */
 package org.team11.Ghosts;
 
+import javafx.geometry.Bounds;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.effect.DropShadow;
 import javafx.scene.image.Image;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Circle;
 import javafx.scene.text.Font;
+import org.team11.Assets.AssetCache;
 
 public class Ghost {
 
+    //Color of the part of the word left to type
+    static final Color WORD_COLOR = Color.web("#fdf0d5");
+
+    //Color of the typed part of the word
+    static final Color TYPED_COLOR = Color.web("#a3ffd6");
+
     //The word associated with a ghost
-    private final String word;
+    private String word;
+
+    //The normalized word, used as the key of the active ghost index
+    private String key;
 
     //checks if the ghost is active in the game
     private boolean active;
 
+    //set when the node of the ghost could not be built, such a ghost is never active
+    private boolean failed;
+
     //graphical representation of the ghost
     private Pane node;
 
+    //the typed part of the word, highlighted
+    private Label matchedLabel;
+
+    //the part of the word that is left to type
+    private Label label;
+
+    //the word split after each position, computed once so highlighting does not allocate
+    private String[] typedParts;
+    private String[] untypedParts;
+
+    //number of characters currently highlighted
+    private int highlighted;
+
     //the time the ghost was created
     private long creationTime;
 
@@ -57,60 +91,185 @@ public class Ghost {
      * @param word to be typed
      */
     public Ghost(String word) {
+        this(word, true);
+    }
+
+    /**
+     * Constructor for the ghost class
+     * @param word to be typed
+     * @param withNode false for a ghost drawn by a renderer that needs no scene-graph node
+     */
+    public Ghost(String word, boolean withNode) {
+        if (withNode) {
+            try {
+                initializeGhost();
+            } catch (Exception e) {
+                // Handle the exception gracefully
+                System.err.println("Error initializing Ghost: " + e.getMessage());
+                this.node = null;
+                this.failed = true;
+            }
+        }
+        reset(word);
+    }
+
+    /**
+     * Puts the ghost back on duty with a new word, reusing its nodes. A ghost whose node could
+     * not be built stays inactive
+     * @param word to be typed
+     */
+    public void reset(String word) {
         this.word = word;
-        this.active = true;
-
-        try {
-            initializeGhost(word);
-        } catch (Exception e) {
-            // Handle the exception gracefully
-            System.err.println("Error initializing Ghost: " + e.getMessage());
-            // Optionally, set active to false or perform fallback behavior
-            this.active = false;
-            this.node = null;
+        this.key = ActiveGhostIndex.normalize(word);
+        this.active = !failed;
+        this.highlighted = 0;
+        this.creationTime = 0;
+
+        // Split the word once for the prefix highlight
+        typedParts = new String[word.length() + 1];
+        untypedParts = new String[word.length() + 1];
+        for (int i = 0; i <= word.length(); i++) {
+            typedParts[i] = word.substring(0, i);
+            untypedParts[i] = word.substring(i);
+        }
+
+        if (node != null) {
+            matchedLabel.setText(typedParts[0]);
+            label.setText(word);
+            node.setTranslateX(0);
+            node.setTranslateY(0);
+        }
+    }
+
+    /**
+     * Takes the ghost off duty so it can be reused
+     */
+    public void release() {
+        this.active = false;
+        highlight(0);
+    }
+
+    /**
+     * Moves the ghost so that the center of its node is on the given point of its parent
+     * @param x coordinate in the parent
+     * @param y coordinate in the parent
+     */
+    public void place(double x, double y) {
+        if (node == null) {
+            return;
         }
+        Bounds bounds = node.getLayoutBounds();
+        node.setTranslateX(x - node.getLayoutX() - (bounds.getMinX() + bounds.getMaxX()) / 2);
+        node.setTranslateY(y - node.getLayoutY() - (bounds.getMinY() + bounds.getMaxY()) / 2);
     }
 
 
 
     /**
      * Creates and positions the words on the ghost and the ghost on the game pane
-     * Sets up the visual representation of the ghost using the JAVA FX methods
-     * @param word, the word to be typed by the player
+     * Sets up the visual representation of the ghost using the JAVA FX methods,
+     * the word itself is filled in by reset
      *
      *
      */
 
-    private void initializeGhost(String word) {
+    private void initializeGhost() {
 
         // Create a circle for the ghost
         Circle circle = new Circle(39); // Radius of the circle
         circle.setFill(Color.TRANSPARENT); // Set fill color to transparent
 
-        DropShadow dropShadow = new DropShadow();
-        dropShadow.setColor(Color.DARKBLUE);
-        dropShadow.setOffsetX(0f);
-        dropShadow.setOffsetY(0f);
-        dropShadow.setWidth(31);
-        dropShadow.setHeight(31);
+        DropShadow dropShadow = shadow();
         circle.setEffect(dropShadow);
 
-        // Set background image using CSS
-        Image img = new Image(getClass().getResourceAsStream("/animation/ghost1.gif"));
-        circle.setFill(new ImagePattern(img));
+        // Set background image, decoded once for all ghosts
+        circle.setFill(pattern());
 
-        // Create a label for the word
-        Label label = new Label(word);
-        label.setFont(Font.font("Futura", 15));
-        label.setTextFill(Color.web("#fdf0d5"));
-        label.setEffect(dropShadow);
+        // Create a label for the word, with the typed part in front of it
+        Font font = font();
+        label = new Label();
+        label.setFont(font);
+        label.setTextFill(WORD_COLOR);
+        matchedLabel = new Label();
+        matchedLabel.setFont(font);
+        matchedLabel.setTextFill(TYPED_COLOR);
+        HBox wordBox = new HBox(matchedLabel, label);
+        wordBox.setEffect(dropShadow);
 
         // Position the label at the top of the circle
-        label.layoutXProperty().bind(circle.centerXProperty().subtract(label.widthProperty().divide(2)));
-        label.layoutYProperty().bind(circle.centerYProperty().subtract(circle.radiusProperty()).subtract(label.heightProperty()));
+        wordBox.layoutXProperty().bind(circle.centerXProperty().subtract(wordBox.widthProperty().divide(2)));
+        wordBox.layoutYProperty().bind(circle.centerYProperty().subtract(circle.radiusProperty()).subtract(wordBox.heightProperty()));
 
         // Create a new pane to contain the circle and label and sets the node
-        this.node = new Pane(circle, label);
+        this.node = new Pane(circle, wordBox);
+    }
+
+    /**
+     * @return the drop shadow of every ghost, shared through the AssetCache
+     */
+    static DropShadow shadow() {
+        return AssetCache.getShared().get("ghost.shadow", () -> {
+            DropShadow shadow = new DropShadow();
+            shadow.setColor(Color.DARKBLUE);
+            shadow.setOffsetX(0f);
+            shadow.setOffsetY(0f);
+            shadow.setWidth(31);
+            shadow.setHeight(31);
+            return shadow;
+        });
+    }
+
+    /**
+     * @return the sprite of every ghost as a paint, shared through the AssetCache
+     */
+    static ImagePattern pattern() {
+        AssetCache assets = AssetCache.getShared();
+        Image img = assets.getImage("/animation/ghost1.gif");
+        return assets.get("ghost.pattern", () -> new ImagePattern(img));
+    }
+
+    /**
+     * @return the font of the words, shared through the AssetCache
+     */
+    static Font font() {
+        return AssetCache.getShared().getFont("Futura", 15);
+    }
+
+    /**
+     * Highlights the part of the word the player has typed
+     * @param length number of characters typed, 0 removes the highlight
+     */
+    public void highlight(int length) {
+        int clamped = Math.max(0, Math.min(length, word.length()));
+        if (clamped == highlighted) {
+            return;
+        }
+        highlighted = clamped;
+        if (node != null) {
+            matchedLabel.setText(typedParts[clamped]);
+            label.setText(untypedParts[clamped]);
+        }
+    }
+
+    /**
+     * @return the number of highlighted characters
+     */
+    public int getHighlighted() {
+        return highlighted;
+    }
+
+    /**
+     * @return the part of the word the player has typed
+     */
+    public String getTypedPart() {
+        return typedParts[highlighted];
+    }
+
+    /**
+     * @return the part of the word the player still has to type
+     */
+    public String getUntypedPart() {
+        return untypedParts[highlighted];
     }
 
 
@@ -123,6 +282,10 @@ public class Ghost {
         return word;
     }
 
+    public String getKey() {
+        return key;
+    }
+
     public boolean isActive() {
         return active;
     }
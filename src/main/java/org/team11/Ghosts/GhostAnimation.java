@@ -13,98 +13,156 @@
  * Class: GhostAnimation
  *
  * Description:
- * Manages the animation and movement of ghost entities
- * timer: A Timer object used for scheduling tasks related to ghost animation.
- * text: A JavaFX Text object representing the textual content associated with the ghost animation.
- * lastMovementTime: A static long variable representing the time of the last ghost movement.
- * isPaused: A boolean flag indicating whether the animation is currently paused.
+ * Manages the animation and movement of ghost entities.
+ * A single game loop drives the whole game: once per frame one AnimationTimer updates the
+ * GameEngine, which moves every ghost in fixed steps, then has the GhostRenderer draw each
+ * ghost at the position the engine computed. There is no animation object per ghost, so the
+ * cost of a frame grows only with the number of ghosts on screen.
+ * engine: The rules of the game, including the positions of the ghosts.
+ * ghosts: The ghost shown for each ghost of the engine, indexed by its id.
+ * renderer: Draws the ghosts, with a node per ghost or into a single canvas.
+ * stats: Where the time spent updating the engine and drawing each frame is recorded.
  *
- * The class provides a constructor to initialize a GhostAnimation object with a Timer instance and a Ghost object.
- * It initializes the lastMovementTime variable and sets isPaused to false.
- * The start() method initiates the animation loop using an AnimationTimer.
- * Within this loop, the animation logic is executed if the animation is not paused.
- * The pause() method pauses the animation by halting the execution of the Timer object, effectively suspending the animation.
- * It sets isPaused to true.
- * The stop() method stops the animation by canceling the Timer object and removing the associated text element from its parent Pane.
+ * The start() method starts the game loop and the stop() method stops it.
+ * draw() draws the ghosts where the engine last left them, with the part of their word typed so far.
  * **************************************
  */
 package org.team11.Ghosts;
 
 import javafx.animation.AnimationTimer;
-import javafx.scene.layout.Pane;
-import javafx.scene.text.Text;
+import org.team11.GameEngine.GameEngine;
+import org.team11.GameEngine.GhostState;
+import org.team11.Metrics.FrameStats;
 
-import java.util.Timer;
+import java.util.Arrays;
 
 public class GhostAnimation {
 
-    //Schedules tasks related to ghost animations
-    public Timer timer;
+    //The rules of the game, updated every frame
+    private final GameEngine engine;
 
-    //the text associated with the ghost movement
-    public Text text;
+    //The ghosts shown, indexed by the id of their state in the engine
+    private Ghost[] ghosts = new Ghost[GhostPool.DEFAULT_CAPACITY];
 
-    //the time of last ghost movement
-    public static long lastMovementTime;
+    //Draws the ghosts every frame
+    private final GhostRenderer renderer;
 
-    //Checks if the game is paused
-    public boolean isPaused;
+    //The game loop, created when it is first started
+    private AnimationTimer timer;
+
+    //Records the logic and draw time of every frame
+    private final FrameStats stats;
 
 
     /**
      * A constructor for the ghost Animation class
-     * @param timer scheduling tasks related to ghost animation.
-     * @param ghost the animated ghost
+     * @param engine the rules of the game, updated every frame
+     * @param renderer draws the ghosts every frame
      */
-    public GhostAnimation(Timer timer, Ghost ghost) {
-        this.timer = timer;
-        lastMovementTime = System.currentTimeMillis();
-        isPaused = false;
+    public GhostAnimation(GameEngine engine, GhostRenderer renderer) {
+        this(engine, renderer, new FrameStats());
+    }
 
+    /**
+     * A constructor for the ghost Animation class that records the time of every frame
+     * @param engine the rules of the game, updated every frame
+     * @param renderer draws the ghosts every frame
+     * @param stats where the logic and draw time of every frame are recorded
+     */
+    public GhostAnimation(GameEngine engine, GhostRenderer renderer, FrameStats stats) {
+        this.engine = engine;
+        this.renderer = renderer;
+        this.stats = stats;
     }
 
     /**
-     * Starts the  animation
+     * Shows a ghost the engine just spawned
+     * @param state the ghost in the engine
+     * @param ghost the ghost shown for it
      */
-    public void start() {
-        new AnimationTimer() {
-            public void handle(long currentNanoTime) {
-                if (!isPaused) {
-                    // Animation logic here
+    public void add(GhostState state, Ghost ghost) {
+        int id = state.getId();
+        if (id >= ghosts.length) {
+            ghosts = Arrays.copyOf(ghosts, Math.max(id + 1, ghosts.length * 2));
+        }
+        ghosts[id] = ghost;
+    }
 
-                }
-            }
-        }.start();
+    /**
+     * @param state a ghost on screen in the engine
+     * @return the ghost shown for it, null if there is none
+     */
+    public Ghost get(GhostState state) {
+        int id = state.getId();
+        return id < ghosts.length ? ghosts[id] : null;
     }
 
+    /**
+     * Stops showing a ghost the engine killed or expired
+     * @param state the ghost in the engine
+     * @return the ghost that was shown for it, null if there was none
+     */
+    public Ghost remove(GhostState state) {
+        Ghost ghost = get(state);
+        if (ghost != null) {
+            ghosts[state.getId()] = null;
+        }
+        return ghost;
+    }
 
     /**
-     * Pauses the animation
-     *
-     * @throws InterruptedException if an interruption occurs
+     * Starts the game loop
      */
-    public void pause() throws InterruptedException {
+    public void start() {
+        if (timer == null) {
+            timer = new AnimationTimer() {
+                public void handle(long currentNanoTime) {
+                    frame();
+                }
+            };
+        }
+        timer.start();
+    }
 
-        if (timer != null)
-            timer.cancel();
+    /**
+     * Runs one frame: updates the engine, then draws the ghosts, timing both
+     */
+    public void frame() {
+        long start = System.nanoTime();
+        engine.update();
+        long updated = System.nanoTime();
+        draw();
+        long drawn = System.nanoTime();
+        stats.getLogicTimes().record(updated - start);
+        stats.getDrawTimes().record(drawn - updated);
+    }
 
-        if (text != null)
-            ((Pane) text.getParent()).getChildren().remove(text);
-        isPaused = true;
+    /**
+     * Draws every ghost on screen at its current position
+     */
+    public void draw() {
+        renderer.beginFrame();
+        for (int i = 0; i < engine.getGhostCount(); i++) {
+            GhostState state = engine.ghostAt(i);
+            Ghost ghost = ghosts[state.getId()];
+            if (ghost != null) {
+                ghost.highlight(engine.matchedLength(state));
+                renderer.draw(ghost, engine.xAt(i), engine.yAt(i));
+            }
+        }
+        renderer.endFrame();
     }
 
+    public FrameStats getStats() {
+        return stats;
+    }
 
     /**
      * Stops the animation
      */
     public void stop() {
         if (timer != null)
-
-            timer.cancel();
-        if (text != null)
-            ((Pane) text.getParent()).getChildren().remove(text);
+            timer.stop();
     }
 
 }
-
-
@@ -0,0 +1,109 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/18/2026
+ * Time: 8:40 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Ghosts
+ * Class: GhostPool
+ *
+ * Description:
+ * A bounded pool of reusable ghosts. acquire() hands out a released ghost reset with the new
+ * word, and only builds a new ghost when the pool is empty; release() takes a ghost back once
+ * it left the screen. Once the pool is warm, spawning a ghost builds no scene-graph nodes.
+ * Ghosts released while the pool is full are left to the garbage collector.
+ * The pool is meant to be used from the JavaFX application thread only.
+ * **************************************
+ */
+package org.team11.Ghosts;
+
+import java.util.ArrayDeque;
+
+public class GhostPool {
+
+    /** Default number of ghosts kept for reuse */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    // Released ghosts waiting to be reused
+    private final ArrayDeque<Ghost> free;
+
+    // Maximum number of ghosts kept for reuse
+    private final int capacity;
+
+    // False when the ghosts are drawn by a renderer that needs no scene-graph node
+    private final boolean withNodes;
+
+    // Number of ghosts built because the pool was empty
+    private int created;
+
+    /**
+     * Creates a pool with the default capacity
+     */
+    public GhostPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a pool
+     * @param capacity maximum number of ghosts kept for reuse
+     */
+    public GhostPool(int capacity) {
+        this(capacity, true);
+    }
+
+    /**
+     * Creates a pool
+     * @param capacity maximum number of ghosts kept for reuse
+     * @param withNodes false to build ghosts without scene-graph nodes
+     */
+    public GhostPool(int capacity, boolean withNodes) {
+        this.capacity = capacity;
+        this.withNodes = withNodes;
+        this.free = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Hands out a ghost carrying the given word
+     * @param word to be typed
+     * @return a reused ghost, or a new one if none is free
+     */
+    public Ghost acquire(String word) {
+        Ghost ghost = free.pollFirst();
+        if (ghost == null) {
+            created++;
+            return new Ghost(word, withNodes);
+        }
+        ghost.reset(word);
+        return ghost;
+    }
+
+    /**
+     * Takes back a ghost that left the screen
+     * @param ghost no longer shown
+     */
+    public void release(Ghost ghost) {
+        ghost.release();
+        if (free.size() < capacity) {
+            free.addFirst(ghost);
+        }
+    }
+
+    /**
+     * @return the number of ghosts waiting to be reused
+     */
+    public int getFreeCount() {
+        return free.size();
+    }
+
+    /**
+     * @return the number of ghosts built because the pool was empty
+     */
+    public int getCreatedCount() {
+        return created;
+    }
+}
@@ -0,0 +1,101 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/19/2026
+ * Time: 11:00 AM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Ghosts
+ * Class: GhostRenderer
+ *
+ * Description:
+ * Draws the ghosts on screen for the game loop. Every frame the game loop calls beginFrame(),
+ * then draw() once for every moving ghost, then endFrame().
+ * Two renderers exist: the NodeGhostRenderer moves one scene-graph node per ghost, the
+ * CanvasGhostRenderer paints every ghost into a single Canvas, which scales to hundreds of
+ * ghosts. The renderer is picked at startup with the "keyfrenzy.renderer" system property,
+ * "node" (the default) or "canvas".
+ * **************************************
+ */
+package org.team11.Ghosts;
+
+import javafx.scene.layout.Pane;
+
+import java.util.Locale;
+
+public interface GhostRenderer {
+
+    /** System property selecting the renderer, "node" or "canvas" */
+    String RENDERER_PROPERTY = "keyfrenzy.renderer";
+
+    /**
+     * The available renderers
+     */
+    enum Mode {
+        NODE, CANVAS;
+
+        /**
+         * @param value of the renderer property, may be null
+         * @return the renderer it names, NODE when it is missing or unknown
+         */
+        public static Mode parse(String value) {
+            if (value != null && value.trim().toLowerCase(Locale.ROOT).equals("canvas")) {
+                return CANVAS;
+            }
+            return NODE;
+        }
+    }
+
+    /**
+     * Creates the renderer selected by the system property
+     * @param pane the game pane the ghosts are shown in
+     * @param width of the game pane
+     * @param height of the game pane
+     * @return the renderer
+     */
+    static GhostRenderer create(Pane pane, double width, double height) {
+        if (Mode.parse(System.getProperty(RENDERER_PROPERTY)) == Mode.CANVAS) {
+            return new CanvasGhostRenderer(pane, width, height);
+        }
+        return new NodeGhostRenderer(pane);
+    }
+
+    /**
+     * @return true if the ghosts need their own scene-graph node
+     */
+    boolean usesNodes();
+
+    /**
+     * Puts a ghost on screen
+     * @param ghost that was just spawned
+     */
+    void show(Ghost ghost);
+
+    /**
+     * Takes a ghost off screen
+     * @param ghost that was killed or expired
+     */
+    void hide(Ghost ghost);
+
+    /**
+     * Starts drawing a frame
+     */
+    void beginFrame();
+
+    /**
+     * Draws one ghost
+     * @param ghost a moving ghost
+     * @param x position of the center of the ghost in the game pane
+     * @param y position of the center of the ghost in the game pane
+     */
+    void draw(Ghost ghost, double x, double y);
+
+    /**
+     * Finishes drawing a frame
+     */
+    void endFrame();
+}
@@ -0,0 +1,71 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/19/2026
+ * Time: 11:10 AM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Ghosts
+ * Class: NodeGhostRenderer
+ *
+ * Description:
+ * The default renderer: every ghost is its own node in the game pane, and drawing a ghost
+ * moves its node. JavaFX lays out, styles and composites each ghost node on every pulse.
+ * **************************************
+ */
+package org.team11.Ghosts;
+
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+
+public class NodeGhostRenderer implements GhostRenderer {
+
+    // The game pane holding the ghost nodes
+    private final Pane pane;
+
+    /**
+     * Creates the renderer
+     * @param pane the game pane the ghost nodes are added to
+     */
+    public NodeGhostRenderer(Pane pane) {
+        this.pane = pane;
+    }
+
+    @Override
+    public boolean usesNodes() {
+        return true;
+    }
+
+    @Override
+    public void show(Ghost ghost) {
+        // A ghost whose node failed to build is not shown
+        if (ghost.getNode() != null) {
+            pane.getChildren().add(ghost.getNode());
+        }
+    }
+
+    @Override
+    public void hide(Ghost ghost) {
+        Node node = ghost.getNode();
+        if (node != null && node.getParent() instanceof Pane) {
+            ((Pane) node.getParent()).getChildren().remove(node);
+        }
+    }
+
+    @Override
+    public void beginFrame() {
+    }
+
+    @Override
+    public void draw(Ghost ghost, double x, double y) {
+        ghost.place(x, y);
+    }
+
+    @Override
+    public void endFrame() {
+    }
+}
@@ -0,0 +1,40 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/22/2026
+ * Time: 2:20 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Metrics
+ * Class: DictionaryLoadEvent
+ *
+ * Description:
+ * A JDK Flight Recorder event for loading the dictionary, its duration is the time the load took.
+ * **************************************
+ */
+package org.team11.Metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.team11.DictionaryLoad")
+@Label("Dictionary Load")
+@Category({"Key Frenzy", "Loading"})
+@Enabled(false)
+@StackTrace(false)
+public class DictionaryLoadEvent extends Event {
+
+    @Label("Words")
+    public int words;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,160 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/21/2026
+ * Time: 10:15 AM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Metrics
+ * Class: FrameMonitor
+ *
+ * Description:
+ * Watches the JavaFX pulse of the game scene with its own AnimationTimer. Every pulse it records
+ * the time since the previous pulse, the ghosts on screen and the nodes in the scene graph into
+ * a FrameStats; the game loop records its own logic and draw times into the same FrameStats.
+ * The monitor can show an overlay with p50, p99 and max of every histogram in the corner of the
+ * game. The overlay is off unless the "keyfrenzy.overlay" system property is "true"; F3 toggles
+ * it while playing.
+ * **************************************
+ */
+package org.team11.Metrics;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.control.Label;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.text.Font;
+
+import java.util.function.IntSupplier;
+
+public class FrameMonitor {
+
+    /** System property showing the overlay from the start, "true" or "false" */
+    public static final String OVERLAY_PROPERTY = "keyfrenzy.overlay";
+
+    // Time between two updates of the overlay text
+    private static final long OVERLAY_REFRESH_NANOS = 500_000_000L;
+
+    // Where the measurements go
+    private final FrameStats stats;
+
+    // The scene graph whose nodes are counted, and where the overlay is shown
+    private final Pane root;
+
+    // The number of ghosts on screen
+    private final IntSupplier ghostCount;
+
+    // Shows the summary of the stats, not managed by the root's layout
+    private final Label overlay;
+
+    // Runs once per pulse
+    private final AnimationTimer timer;
+
+    // Time of the last pulse and of the last overlay update, 0 before the first
+    private long lastPulse;
+    private long lastRefresh;
+
+    /**
+     * Creates a monitor for the game scene, it starts recording when started
+     * @param stats where the measurements go
+     * @param root the root of the game scene
+     * @param ghostCount the number of ghosts on screen
+     */
+    public FrameMonitor(FrameStats stats, Pane root, IntSupplier ghostCount) {
+        this.stats = stats;
+        this.root = root;
+        this.ghostCount = ghostCount;
+
+        this.overlay = new Label();
+        overlay.setManaged(false);
+        overlay.setMouseTransparent(true);
+        overlay.setFont(Font.font("Monospaced", 11));
+        overlay.setStyle("-fx-background-color: rgba(0, 0, 0, 0.6); -fx-text-fill: white; -fx-padding: 4;");
+        overlay.relocate(5, 5);
+        overlay.setVisible(false);
+        root.getChildren().add(overlay);
+        root.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.F3) {
+                setOverlayVisible(!overlay.isVisible());
+            }
+        });
+        setOverlayVisible(Boolean.getBoolean(OVERLAY_PROPERTY));
+
+        this.timer = new AnimationTimer() {
+            public void handle(long now) {
+                pulse(now);
+            }
+        };
+    }
+
+    /**
+     * Records one pulse
+     * @param now time of the pulse, in nanoseconds
+     */
+    private void pulse(long now) {
+        if (lastPulse != 0) {
+            stats.getFrameIntervals().record(now - lastPulse);
+        }
+        lastPulse = now;
+        stats.getGhostCounts().record(ghostCount.getAsInt());
+        stats.getNodeCounts().record(countNodes(root));
+
+        if (overlay.isVisible() && now - lastRefresh >= OVERLAY_REFRESH_NANOS) {
+            lastRefresh = now;
+            overlay.setText(stats.summary());
+            overlay.autosize();
+        }
+    }
+
+    /**
+     * @param node the root of a scene graph
+     * @return the number of nodes in it, the root included
+     */
+    static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Shows or hides the overlay, the stats are recorded either way
+     * @param visible true to show the overlay
+     */
+    public void setOverlayVisible(boolean visible) {
+        overlay.setVisible(visible);
+        if (visible) {
+            overlay.toFront();
+            lastRefresh = 0;
+        }
+    }
+
+    /**
+     * Starts recording every pulse
+     */
+    public void start() {
+        lastPulse = 0;
+        timer.start();
+    }
+
+    /**
+     * Stops recording
+     */
+    public void stop() {
+        timer.stop();
+    }
+
+    public FrameStats getStats() {
+        return stats;
+    }
+}
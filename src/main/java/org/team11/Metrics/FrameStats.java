@@ -0,0 +1,92 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/21/2026
+ * Time: 9:40 AM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Metrics
+ * Class: FrameStats
+ *
+ * Description:
+ * The histograms recorded once per frame of the game:
+ * frameIntervals: time between two JavaFX pulses, in nanoseconds. A stutter shows up here.
+ * logicTimes: time the game loop spent updating the GameEngine, in nanoseconds.
+ * drawTimes: time the game loop spent drawing the ghosts, in nanoseconds.
+ * ghostCounts: ghosts on screen.
+ * nodeCounts: nodes in the game scene graph.
+ * A long frame with short logic and draw times points at GC or CSS and layout; a long frame
+ * with a long logic time points at the rules, such as spawning.
+ * **************************************
+ */
+package org.team11.Metrics;
+
+public class FrameStats {
+
+    private final LatencyHistogram frameIntervals = new LatencyHistogram();
+    private final LatencyHistogram logicTimes = new LatencyHistogram();
+    private final LatencyHistogram drawTimes = new LatencyHistogram();
+    private final LatencyHistogram ghostCounts = new LatencyHistogram();
+    private final LatencyHistogram nodeCounts = new LatencyHistogram();
+
+    public LatencyHistogram getFrameIntervals() {
+        return frameIntervals;
+    }
+
+    public LatencyHistogram getLogicTimes() {
+        return logicTimes;
+    }
+
+    public LatencyHistogram getDrawTimes() {
+        return drawTimes;
+    }
+
+    public LatencyHistogram getGhostCounts() {
+        return ghostCounts;
+    }
+
+    public LatencyHistogram getNodeCounts() {
+        return nodeCounts;
+    }
+
+    /**
+     * Forgets every frame recorded
+     */
+    public void reset() {
+        frameIntervals.reset();
+        logicTimes.reset();
+        drawTimes.reset();
+        ghostCounts.reset();
+        nodeCounts.reset();
+    }
+
+    /**
+     * @return p50, p99 and max of the frame, logic and draw times, in milliseconds,
+     * and of the ghost and node counts, one line each
+     */
+    public String summary() {
+        return line("frame", frameIntervals, 1e6) + "\n"
+                + line("logic", logicTimes, 1e6) + "\n"
+                + line("draw", drawTimes, 1e6) + "\n"
+                + line("ghosts", ghostCounts, 1) + "\n"
+                + line("nodes", nodeCounts, 1);
+    }
+
+    /**
+     * @param name of the histogram
+     * @param histogram to summarize
+     * @param unit the recorded values are divided by
+     * @return one line of the summary
+     */
+    private static String line(String name, LatencyHistogram histogram, double unit) {
+        String format = unit == 1 ? "%-6s p50 %6.0f  p99 %6.0f  max %6.0f" : "%-6s p50 %6.2f  p99 %6.2f  max %6.2f";
+        return String.format(format, name,
+                histogram.getValueAtPercentile(50) / unit,
+                histogram.getValueAtPercentile(99) / unit,
+                histogram.getMax() / unit);
+    }
+}
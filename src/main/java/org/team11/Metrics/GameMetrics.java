@@ -0,0 +1,213 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/22/2026
+ * Time: 9:30 AM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Metrics
+ * Class: GameMetrics
+ *
+ * Description:
+ * The counters and gauges of the game, shared by the whole process and published over JMX
+ * as "org.team11:type=GameMetrics" once GameMain registers them.
+ * The game records into the shared instance from the JavaFX thread, the LoadHarness from many
+ * threads at once, and JMX reads it from its own threads, so every counter is a LongAdder.
+ * Threads started by the game are named with THREAD_PREFIX so they can be counted.
+ * **************************************
+ */
+package org.team11.Metrics;
+
+import org.team11.Assets.AssetCache;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+public class GameMetrics implements GameMetricsMXBean {
+
+    /** Name the metrics are published under */
+    public static final String OBJECT_NAME = "org.team11:type=GameMetrics";
+
+    /** Start of the name of every thread the game starts */
+    public static final String THREAD_PREFIX = "KeyFrenzy-";
+
+    // The metrics shared by the whole process
+    private static final GameMetrics SHARED = new GameMetrics();
+
+    private final LongAdder ghostsSpawned = new LongAdder();
+    private final LongAdder ghostsKilled = new LongAdder();
+    private final LongAdder ghostsExpired = new LongAdder();
+    private final LongAdder activeGhosts = new LongAdder();
+    private final LongAdder wordDraws = new LongAdder();
+    private final LongAdder wordRetries = new LongAdder();
+    private final LongAdder bucketExhaustions = new LongAdder();
+
+    // The frame times of the session being played, null before the first
+    private volatile FrameStats frameStats;
+
+    /**
+     * Creates empty metrics, the game uses the shared ones
+     */
+    GameMetrics() {
+    }
+
+    /**
+     * @return the metrics shared by the whole process
+     */
+    public static GameMetrics getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Publishes the shared metrics on the platform MBean server, once
+     * @throws JMException if they cannot be published
+     */
+    public static synchronized void register() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        if (!server.isRegistered(name)) {
+            server.registerMBean(SHARED, name);
+        }
+    }
+
+    /**
+     * Removes the shared metrics from the platform MBean server, if they were published
+     * @throws JMException if they cannot be removed
+     */
+    public static synchronized void unregister() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        if (server.isRegistered(name)) {
+            server.unregisterMBean(name);
+        }
+    }
+
+    /**
+     * Counts a ghost put on screen
+     */
+    public void ghostSpawned() {
+        ghostsSpawned.increment();
+        activeGhosts.increment();
+    }
+
+    /**
+     * Counts a ghost killed by the player
+     */
+    public void ghostKilled() {
+        ghostsKilled.increment();
+        activeGhosts.decrement();
+    }
+
+    /**
+     * Counts a ghost that reached the center
+     */
+    public void ghostExpired() {
+        ghostsExpired.increment();
+        activeGhosts.decrement();
+    }
+
+    /**
+     * Takes the ghosts left on screen at the end of a session off the active count
+     * @param count ghosts still on screen
+     */
+    public void ghostsCleared(int count) {
+        activeGhosts.add(-count);
+    }
+
+    /**
+     * Counts a word drawn from a dictionary
+     * @param retried true if there was no word of the length asked for
+     * @param exhausted true if every word of the length had been drawn and it started over
+     */
+    public void wordDrawn(boolean retried, boolean exhausted) {
+        wordDraws.increment();
+        if (retried) {
+            wordRetries.increment();
+        }
+        if (exhausted) {
+            bucketExhaustions.increment();
+        }
+    }
+
+    /**
+     * @param frameStats the frame times of the session being played
+     */
+    public void setFrameStats(FrameStats frameStats) {
+        this.frameStats = frameStats;
+    }
+
+    @Override
+    public long getGhostsSpawned() {
+        return ghostsSpawned.sum();
+    }
+
+    @Override
+    public long getGhostsKilled() {
+        return ghostsKilled.sum();
+    }
+
+    @Override
+    public long getGhostsExpired() {
+        return ghostsExpired.sum();
+    }
+
+    @Override
+    public long getActiveGhostCount() {
+        return activeGhosts.sum();
+    }
+
+    @Override
+    public long getWordDraws() {
+        return wordDraws.sum();
+    }
+
+    @Override
+    public long getWordRetries() {
+        return wordRetries.sum();
+    }
+
+    @Override
+    public long getBucketExhaustions() {
+        return bucketExhaustions.sum();
+    }
+
+    @Override
+    public int getGameThreadCount() {
+        ThreadGroup root = Thread.currentThread().getThreadGroup();
+        while (root.getParent() != null) {
+            root = root.getParent();
+        }
+        Thread[] threads = new Thread[root.activeCount() + 16];
+        int live = root.enumerate(threads, true);
+        int count = 0;
+        for (int i = 0; i < live; i++) {
+            if (threads[i].getName().startsWith(THREAD_PREFIX)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public long getAssetCacheHits() {
+        return AssetCache.getShared().getHits();
+    }
+
+    @Override
+    public long getAssetCacheMisses() {
+        return AssetCache.getShared().getMisses();
+    }
+
+    @Override
+    public double getFrameTimeP99Millis() {
+        FrameStats stats = frameStats;
+        return stats == null ? 0 : stats.getFrameIntervals().getValueAtPercentile(99) / 1e6;
+    }
+}
@@ -0,0 +1,79 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/22/2026
+ * Time: 9:00 AM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Metrics
+ * Class: GameMetricsMXBean
+ *
+ * Description:
+ * The metrics of a running game, as seen by JMX tools such as jconsole or VisualVM.
+ * The counters add up over every session since the game started; the gauges read the
+ * current value.
+ * **************************************
+ */
+package org.team11.Metrics;
+
+public interface GameMetricsMXBean {
+
+    /**
+     * @return the ghosts spawned
+     */
+    long getGhostsSpawned();
+
+    /**
+     * @return the ghosts killed by the players
+     */
+    long getGhostsKilled();
+
+    /**
+     * @return the ghosts that reached the center
+     */
+    long getGhostsExpired();
+
+    /**
+     * @return the ghosts on screen now
+     */
+    long getActiveGhostCount();
+
+    /**
+     * @return the words drawn from the dictionaries
+     */
+    long getWordDraws();
+
+    /**
+     * @return the draws that found no word of the length asked for, and used another length
+     */
+    long getWordRetries();
+
+    /**
+     * @return the times every word of a length had been drawn, and the length started over
+     */
+    long getBucketExhaustions();
+
+    /**
+     * @return the live threads started by the game
+     */
+    int getGameThreadCount();
+
+    /**
+     * @return the requests answered from the shared asset cache
+     */
+    long getAssetCacheHits();
+
+    /**
+     * @return the requests to the shared asset cache that had to build their asset
+     */
+    long getAssetCacheMisses();
+
+    /**
+     * @return p99 of the time between two frames of the current session, in milliseconds
+     */
+    double getFrameTimeP99Millis();
+}
@@ -0,0 +1,121 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/22/2026
+ * Time: 3:00 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Metrics
+ * Class: GameRecording
+ *
+ * Description:
+ * A JDK Flight Recorder recording of the game, written when a session is over.
+ * The gameplay events (GhostSpawnEvent, WordSubmittedEvent, ...) are disabled by default: an
+ * event that is not enabled is never committed, so emitting it costs nothing. Setting the
+ * "keyfrenzy.jfr" system property to a file name starts a recording with the JDK's default
+ * settings plus every game event, and the recording is dumped to that file at every game over,
+ * so it can be opened in JDK Mission Control next to the GC and allocation events.
+ * A recording started with -XX:StartFlightRecording can enable them too, with
+ * "+org.team11.GhostSpawn#enabled=true" and so on.
+ * **************************************
+ */
+package org.team11.Metrics;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.List;
+
+public class GameRecording {
+
+    /** System property naming the file the recording is dumped to */
+    public static final String FILE_PROPERTY = "keyfrenzy.jfr";
+
+    /** Every event the game emits */
+    public static final List<Class<? extends Event>> EVENTS = List.of(
+            GhostSpawnEvent.class, GhostExpiredEvent.class, WordSubmittedEvent.class,
+            LevelUpEvent.class, DictionaryLoadEvent.class, SceneSwitchEvent.class);
+
+    // The running recording, null when there is none
+    private static Recording recording;
+
+    // Where it is dumped
+    private static Path file;
+
+    /**
+     * Not meant to be instantiated
+     */
+    private GameRecording() {
+    }
+
+    /**
+     * Starts recording if the system property names a file
+     * @return true if a recording was started
+     * @throws IOException if the default settings cannot be read
+     */
+    public static synchronized boolean startIfConfigured() throws IOException {
+        String configured = System.getProperty(FILE_PROPERTY);
+        if (configured == null || configured.isBlank() || recording != null) {
+            return false;
+        }
+        start(Path.of(configured));
+        return true;
+    }
+
+    /**
+     * Starts a recording with the default settings and every game event
+     * @param destination where the recording is dumped
+     * @return the recording
+     * @throws IOException if the default settings cannot be read
+     */
+    public static synchronized Recording start(Path destination) throws IOException {
+        Configuration settings;
+        try {
+            settings = Configuration.getConfiguration("default");
+        } catch (ParseException e) {
+            throw new IOException("Cannot read the default recording settings", e);
+        }
+        Recording started = new Recording(settings);
+        started.setName("Key Frenzy");
+        for (Class<? extends Event> event : EVENTS) {
+            started.enable(event);
+        }
+        started.start();
+        recording = started;
+        file = destination;
+        return started;
+    }
+
+    /**
+     * Writes what was recorded so far to the file, the recording goes on
+     * @throws IOException if the file cannot be written
+     */
+    public static synchronized void dump() throws IOException {
+        if (recording != null) {
+            recording.dump(file);
+        }
+    }
+
+    /**
+     * Dumps the recording one last time and stops it
+     * @throws IOException if the file cannot be written
+     */
+    public static synchronized void stop() throws IOException {
+        if (recording != null) {
+            try {
+                recording.dump(file);
+            } finally {
+                recording.close();
+                recording = null;
+            }
+        }
+    }
+}
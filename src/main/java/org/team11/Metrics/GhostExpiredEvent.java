@@ -0,0 +1,42 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/22/2026
+ * Time: 2:05 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Metrics
+ * Class: GhostExpiredEvent
+ *
+ * Description:
+ * A JDK Flight Recorder event for a ghost that reached the center and took a life.
+ * **************************************
+ */
+package org.team11.Metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("org.team11.GhostExpired")
+@Label("Ghost Expired")
+@Category({"Key Frenzy", "Gameplay"})
+@Enabled(false)
+@StackTrace(false)
+public class GhostExpiredEvent extends Event {
+
+    @Label("Word")
+    public String word;
+
+    @Label("Lifetime")
+    @Timespan(Timespan.MILLISECONDS)
+    public long lifetime;
+}
@@ -0,0 +1,43 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/22/2026
+ * Time: 2:00 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Metrics
+ * Class: GhostSpawnEvent
+ *
+ * Description:
+ * A JDK Flight Recorder event for a ghost put on screen.
+ * **************************************
+ */
+package org.team11.Metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.team11.GhostSpawn")
+@Label("Ghost Spawn")
+@Category({"Key Frenzy", "Gameplay"})
+@Enabled(false)
+@StackTrace(false)
+public class GhostSpawnEvent extends Event {
+
+    @Label("Word")
+    public String word;
+
+    @Label("Level")
+    public int level;
+
+    @Label("Ghosts On Screen")
+    public int ghostsOnScreen;
+}
@@ -0,0 +1,201 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/21/2026
+ * Time: 2:00 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Metrics
+ * Class: KillTracer
+ *
+ * Description:
+ * Traces the time from a keystroke to the frame that shows its ghost gone. A kill goes through
+ * four steps, each timestamped:
+ * key: the key event reaches the text box handler, which applies it to the GameEngine.
+ * match: the engine matches a ghost, at once for a key event on the JavaFX thread, or on its
+ * next update for a keystroke posted from another thread.
+ * destroy: the ghost is taken off the game pane.
+ * pulse: the next JavaFX pulse has laid out the scene, the frame without the ghost is rendered.
+ * The time between the steps goes into one LatencyHistogram each, plus one for the whole kill,
+ * for the length of the session. export() writes them to a CSV file.
+ * All the methods are called on the JavaFX thread, which also owns the engine.
+ * **************************************
+ */
+package org.team11.Metrics;
+
+import org.team11.GameEngine.GameClock;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+
+public class KillTracer {
+
+    /** System property naming the directory the traces are written to at game over */
+    public static final String EXPORT_DIR_PROPERTY = "keyfrenzy.latencyDir";
+
+    // Source of the timestamps
+    private final GameClock clock;
+
+    // Key event to match: time matching, plus the wait in the command queue if it was posted
+    private final LatencyHistogram keyToMatch = new LatencyHistogram();
+
+    // Match to destroy: time taking the ghost off the game pane
+    private final LatencyHistogram matchToDestroy = new LatencyHistogram();
+
+    // Destroy to pulse: time until the frame without the ghost is rendered
+    private final LatencyHistogram destroyToPulse = new LatencyHistogram();
+
+    // Key event to pulse: the whole kill
+    private final LatencyHistogram keyToPulse = new LatencyHistogram();
+
+    // Key event of the keystroke being applied, 0 when none is
+    private long key;
+
+    // Key event and match of the kill waiting to be destroyed, 0 when none is
+    private long matchedKey;
+    private long match;
+
+    // Key events of the kills destroyed and waiting for the next pulse
+    private long[] pendingKeys = new long[8];
+    private long[] pendingDestroys = new long[8];
+    private int pending;
+
+    /**
+     * Creates a tracer
+     * @param clock source of the timestamps, the one the key events are read from
+     */
+    public KillTracer(GameClock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * @return the current time, to be stamped on a key event as it arrives
+     */
+    public long now() {
+        return clock.nanoTime();
+    }
+
+    /**
+     * Marks the start of applying a keystroke to the engine
+     * @param keyNanos time the key event arrived, from now()
+     */
+    public void keyApplied(long keyNanos) {
+        key = keyNanos;
+    }
+
+    /**
+     * Marks the end of applying a keystroke, a kill after that was not caused by it
+     */
+    public void keyDone() {
+        key = 0;
+    }
+
+    /**
+     * Marks a ghost matched by the keystroke being applied
+     */
+    public void matched() {
+        if (key != 0) {
+            matchedKey = key;
+            match = clock.nanoTime();
+        }
+    }
+
+    /**
+     * Marks the matched ghost taken off the game pane. Ghosts removed for any other reason,
+     * such as expiry, are not traced.
+     */
+    public void destroyed() {
+        if (match == 0) {
+            return;
+        }
+        long destroy = clock.nanoTime();
+        keyToMatch.record(match - matchedKey);
+        matchToDestroy.record(destroy - match);
+        if (pending == pendingKeys.length) {
+            pendingKeys = Arrays.copyOf(pendingKeys, pending * 2);
+            pendingDestroys = Arrays.copyOf(pendingDestroys, pending * 2);
+        }
+        pendingKeys[pending] = matchedKey;
+        pendingDestroys[pending] = destroy;
+        pending++;
+        matchedKey = 0;
+        match = 0;
+    }
+
+    /**
+     * Marks a laid out pulse, which renders every kill destroyed before it
+     */
+    public void pulse() {
+        if (pending == 0) {
+            return;
+        }
+        long pulse = clock.nanoTime();
+        for (int i = 0; i < pending; i++) {
+            destroyToPulse.record(pulse - pendingDestroys[i]);
+            keyToPulse.record(pulse - pendingKeys[i]);
+        }
+        pending = 0;
+    }
+
+    public LatencyHistogram getKeyToMatch() {
+        return keyToMatch;
+    }
+
+    public LatencyHistogram getMatchToDestroy() {
+        return matchToDestroy;
+    }
+
+    public LatencyHistogram getDestroyToPulse() {
+        return destroyToPulse;
+    }
+
+    public LatencyHistogram getKeyToPulse() {
+        return keyToPulse;
+    }
+
+    /**
+     * @return the distributions as CSV, one row per step, in microseconds
+     */
+    public String toCsv() {
+        return "step,count,mean_us,p50_us,p90_us,p99_us,max_us\n"
+                + row("key_to_match", keyToMatch)
+                + row("match_to_destroy", matchToDestroy)
+                + row("destroy_to_pulse", destroyToPulse)
+                + row("key_to_pulse", keyToPulse);
+    }
+
+    /**
+     * @param step name of the step
+     * @param histogram its distribution
+     * @return one row of the CSV
+     */
+    private static String row(String step, LatencyHistogram histogram) {
+        return String.format(Locale.ROOT, "%s,%d,%.1f,%.1f,%.1f,%.1f,%.1f%n", step, histogram.getCount(),
+                histogram.getMean() / 1e3,
+                histogram.getValueAtPercentile(50) / 1e3,
+                histogram.getValueAtPercentile(90) / 1e3,
+                histogram.getValueAtPercentile(99) / 1e3,
+                histogram.getMax() / 1e3);
+    }
+
+    /**
+     * Writes the distributions of the session to a CSV file
+     * @param file to write, replaced if it exists
+     * @throws IOException if the file cannot be written
+     */
+    public void export(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(file, toCsv(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,139 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/21/2026
+ * Time: 9:00 AM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Metrics
+ * Class: LatencyHistogram
+ *
+ * Description:
+ * A histogram of non-negative values, such as frame times in nanoseconds, in the style of an
+ * HDR histogram. Values below 128 are counted exactly; above that, every power of two is split
+ * into 64 buckets, so any value is known to within about 1.5% of itself. The buckets are a
+ * fixed array of counters, recording never allocates and costs the same for any value.
+ * Recording and reading are synchronized, so the histogram can be read from another thread
+ * while the game loop records into it.
+ * **************************************
+ */
+package org.team11.Metrics;
+
+import java.util.Arrays;
+
+public class LatencyHistogram {
+
+    // Values below this are counted exactly
+    private static final int EXACT_VALUES = 128;
+
+    // Buckets per power of two above the exact values
+    private static final int SUB_BUCKETS = 64;
+
+    // Bits kept of every value above the exact values
+    private static final int SUB_BUCKET_BITS = 6;
+
+    // Enough buckets for every positive long
+    private static final int BUCKET_COUNT = SUB_BUCKETS * (Long.SIZE - SUB_BUCKET_BITS + 1);
+
+    // The number of values recorded in each bucket
+    private final long[] counts = new long[BUCKET_COUNT];
+
+    private long count;
+    private long sum;
+    private long max;
+
+    /**
+     * Records one value
+     * @param value to record, negative values are recorded as 0
+     */
+    public synchronized void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        counts[bucketOf(value)]++;
+        count++;
+        sum += value;
+        max = Math.max(max, value);
+    }
+
+    /**
+     * @param value a non-negative value
+     * @return the bucket counting it
+     */
+    static int bucketOf(long value) {
+        if (value < EXACT_VALUES) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return SUB_BUCKETS * (shift + 1) + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    /**
+     * @param bucket a bucket of the histogram
+     * @return the highest value counted in it
+     */
+    static long highestValueOf(int bucket) {
+        if (bucket < EXACT_VALUES) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowest = (long) (bucket % SUB_BUCKETS + SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return a value that the given percentage of the recorded values do not exceed,
+     * 0 if nothing was recorded
+     */
+    public synchronized long getValueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        double clamped = Math.min(100, Math.max(0, percentile));
+        long rank = Math.max(1, (long) Math.ceil(clamped / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * @return the number of values recorded
+     */
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the largest value recorded, exactly
+     */
+    public synchronized long getMax() {
+        return max;
+    }
+
+    /**
+     * @return the mean of the values recorded, 0 if nothing was recorded
+     */
+    public synchronized double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Forgets every value recorded
+     */
+    public synchronized void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        sum = 0;
+        max = 0;
+    }
+}
@@ -0,0 +1,40 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/22/2026
+ * Time: 2:15 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Metrics
+ * Class: LevelUpEvent
+ *
+ * Description:
+ * A JDK Flight Recorder event for the player reaching the next level.
+ * **************************************
+ */
+package org.team11.Metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.team11.LevelUp")
+@Label("Level Up")
+@Category({"Key Frenzy", "Gameplay"})
+@Enabled(false)
+@StackTrace(false)
+public class LevelUpEvent extends Event {
+
+    @Label("Level")
+    public int level;
+
+    @Label("Score")
+    public int score;
+}
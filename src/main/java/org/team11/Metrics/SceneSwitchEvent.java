@@ -0,0 +1,41 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/22/2026
+ * Time: 2:25 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Metrics
+ * Class: SceneSwitchEvent
+ *
+ * Description:
+ * A JDK Flight Recorder event for switching the stage to another scene, its duration is the
+ * time spent loading and showing the scene.
+ * **************************************
+ */
+package org.team11.Metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.team11.SceneSwitch")
+@Label("Scene Switch")
+@Category({"Key Frenzy", "Loading"})
+@Enabled(false)
+@StackTrace(false)
+public class SceneSwitchEvent extends Event {
+
+    @Label("Page")
+    public String page;
+
+    @Label("Title")
+    public String title;
+}
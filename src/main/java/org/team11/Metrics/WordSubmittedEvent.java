@@ -0,0 +1,50 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/22/2026
+ * Time: 2:10 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Metrics
+ * Class: WordSubmittedEvent
+ *
+ * Description:
+ * A JDK Flight Recorder event for a word submitted with Enter or Space, matched or missed.
+ * Its duration is the time the engine took to match the word.
+ * **************************************
+ */
+package org.team11.Metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.team11.WordSubmitted")
+@Label("Word Submitted")
+@Category({"Key Frenzy", "Gameplay"})
+@Enabled(false)
+@StackTrace(false)
+public class WordSubmittedEvent extends Event {
+
+    @Label("Word")
+    public String word;
+
+    @Label("Matched")
+    public boolean matched;
+
+    @Label("Edit Distance")
+    @Description("Typos in the word when it matched, -1 when it missed")
+    public int distance;
+
+    @Label("Scan Length")
+    @Description("Ghosts on screen the word was matched against")
+    public int scanLength;
+}
@@ -0,0 +1,148 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/20/2026
+ * Time: 9:20 AM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Simulation
+ * Class: BotTypist
+ *
+ * Description:
+ * A simulated player. It follows the ghosts on screen through the engine's events and always
+ * goes for the oldest one: after its reaction delay it types the word one keystroke at a time,
+ * at the speed of its TypistProfile, then presses Enter, which submits the text the same way
+ * KeyFrenzyGameController.handleUserInput does. Each keystroke hits a wrong key with the
+ * profile's error rate; a word with a typo is submitted anyway and misses.
+ * The bot also counts what happened during the session for the SessionReport.
+ * **************************************
+ */
+package org.team11.Simulation;
+
+import org.team11.GameEngine.GameEngine;
+import org.team11.GameEngine.GameListener;
+import org.team11.GameEngine.GhostState;
+
+import java.util.LinkedHashSet;
+import java.util.Random;
+
+public class BotTypist implements GameListener {
+
+    // How the bot types
+    private final TypistProfile profile;
+
+    // Decides the typos
+    private final Random rand;
+
+    // The ghosts on screen, oldest first
+    private final LinkedHashSet<GhostState> onScreen = new LinkedHashSet<>();
+
+    // The ghost being typed, null when the bot is looking for one
+    private GhostState target;
+
+    // The text typed for the target so far
+    private final StringBuilder typed = new StringBuilder();
+
+    // Virtual time of the next keystroke, in milliseconds
+    private double nextKeystroke;
+
+    private int kills;
+    private int expired;
+    private int wrongSubmissions;
+    private long keystrokes;
+
+    /**
+     * Creates a bot
+     * @param profile how the bot types
+     * @param rand decides the typos
+     */
+    public BotTypist(TypistProfile profile, Random rand) {
+        this.profile = profile;
+        this.rand = rand;
+    }
+
+    /**
+     * Plays every keystroke due by the given virtual time
+     * @param nowMillis the virtual time of the session
+     * @param engine the session
+     */
+    public void act(long nowMillis, GameEngine engine) {
+        while (nextKeystroke <= nowMillis && !engine.isOver()) {
+            if (target == null || !onScreen.contains(target)) {
+                // Go for the oldest ghost, after noticing it
+                target = onScreen.isEmpty() ? null : onScreen.iterator().next();
+                typed.setLength(0);
+                if (target == null) {
+                    nextKeystroke = nowMillis + 1;
+                    return;
+                }
+                nextKeystroke = Math.max(nextKeystroke, nowMillis) + profile.getReactionMillis();
+                continue;
+            }
+
+            String word = target.getWord();
+            if (typed.length() < word.length()) {
+                char c = word.charAt(typed.length());
+                typed.append(rand.nextDouble() < profile.getErrorRate() ? typo(c) : c);
+            } else {
+                // Enter
+                if (!engine.submit(typed.toString())) {
+                    wrongSubmissions++;
+                }
+                target = null;
+                typed.setLength(0);
+            }
+            keystrokes++;
+            nextKeystroke += profile.getMillisPerKeystroke();
+        }
+    }
+
+    /**
+     * @param c the intended character
+     * @return a different lowercase letter
+     */
+    private char typo(char c) {
+        char wrong;
+        do {
+            wrong = (char) ('a' + rand.nextInt(26));
+        } while (wrong == Character.toLowerCase(c));
+        return wrong;
+    }
+
+    @Override
+    public void ghostSpawned(GhostState ghost, double x, double y) {
+        onScreen.add(ghost);
+    }
+
+    @Override
+    public void ghostKilled(GhostState ghost) {
+        onScreen.remove(ghost);
+        kills++;
+    }
+
+    @Override
+    public void ghostExpired(GhostState ghost) {
+        onScreen.remove(ghost);
+        expired++;
+    }
+
+    public int getKills() {
+        return kills;
+    }
+
+    public int getExpired() {
+        return expired;
+    }
+
+    public int getWrongSubmissions() {
+        return wrongSubmissions;
+    }
+
+    public long getKeystrokes() {
+        return keystrokes;
+    }
+}
@@ -0,0 +1,178 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/20/2026
+ * Time: 10:10 AM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Simulation
+ * Class: LoadHarness
+ *
+ * Description:
+ * Plays whole sessions with BotTypists, much faster than real time and in parallel.
+ * Each session runs on its own headless GameEngine, stepped back to back on virtual time, so a
+ * 90 second session takes a few milliseconds. Sessions run on a pool with one thread per core.
+ * They share the read-only word index, but every session has its own dictionary cursors and
+ * random seed, so a run is reproducible for a given seed whatever the number of threads.
+ * Run it with: gradle run -PmainClass=org.team11.Simulation.LoadHarness --args="--sessions=1000"
+ * Options: --sessions, --threads, --wpm, --errors, --reaction (milliseconds), --seed.
+ * **************************************
+ */
+package org.team11.Simulation;
+
+import org.team11.GameEngine.GameEngine;
+import org.team11.GameEngine.ManualClock;
+import org.team11.Metrics.GameMetrics;
+import org.team11.TypingMechanism.DictionaryLoader;
+import org.team11.TypingMechanism.WordDictionary;
+import org.team11.TypingMechanism.WordIndex;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LoadHarness {
+
+    // Size of the playing field, as in the game
+    private static final double FIELD_WIDTH = 750;
+    private static final double FIELD_HEIGHT = 570;
+
+    /**
+     * Not meant to be instantiated
+     */
+    private LoadHarness() {
+    }
+
+    /**
+     * Plays one session to the end
+     * @param words the word index
+     * @param profile how the bot types
+     * @param seed of the session
+     * @return the outcome of the session
+     */
+    public static SessionReport play(WordIndex words, TypistProfile profile, long seed) {
+        BotTypist bot = new BotTypist(profile, new Random(seed));
+        WordDictionary dictionary = new WordDictionary(words, new Random(seed + 1));
+        GameEngine engine = new GameEngine(new ManualClock(), dictionary::getWord, new Random(seed + 2),
+                FIELD_WIDTH, FIELD_HEIGHT, bot);
+
+        long start = cpuTime();
+        while (!engine.isOver()) {
+            engine.step();
+            bot.act(engine.getElapsedMillis(), engine);
+        }
+        long cpuNanos = cpuTime() - start;
+
+        return new SessionReport(bot, engine.getScore(), Math.min(engine.getLevel(), GameEngine.MAX_LEVEL),
+                engine.getLives(), engine.getElapsedMillis(), cpuNanos);
+    }
+
+    /**
+     * Plays many sessions in parallel
+     * @param words the word index, shared by every session
+     * @param profile how the bots type
+     * @param sessions number of sessions
+     * @param threads number of threads
+     * @param seed of the run, session i uses a seed derived from it
+     * @return the outcome of every session, in session order
+     * @throws InterruptedException if interrupted while waiting for the sessions
+     */
+    public static List<SessionReport> run(WordIndex words, TypistProfile profile, int sessions, int threads,
+                                          long seed) throws InterruptedException {
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable ->
+                new Thread(runnable, GameMetrics.THREAD_PREFIX + "Harness-" + threadCount.incrementAndGet()));
+        try {
+            List<Future<SessionReport>> futures = new ArrayList<>(sessions);
+            for (int i = 0; i < sessions; i++) {
+                long sessionSeed = seed + 31L * i;
+                futures.add(pool.submit(() -> play(words, profile, sessionSeed)));
+            }
+            List<SessionReport> reports = new ArrayList<>(sessions);
+            for (Future<SessionReport> future : futures) {
+                reports.add(future.get());
+            }
+            return reports;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A simulated session failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * @return the CPU time of the current thread, or the wall time if it cannot be measured
+     */
+    private static long cpuTime() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads.isCurrentThreadCpuTimeSupported()) {
+            return threads.getCurrentThreadCpuTime();
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Runs the harness from the command line and prints a summary
+     * @param args --name=value options
+     * @throws IOException if the dictionary cannot be loaded
+     * @throws InterruptedException if interrupted while waiting for the sessions
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            options.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+        int sessions = Integer.parseInt(options.getOrDefault("sessions", "1000"));
+        int threads = Integer.parseInt(options.getOrDefault("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        TypistProfile profile = new TypistProfile(
+                Double.parseDouble(options.getOrDefault("wpm", "40")),
+                Double.parseDouble(options.getOrDefault("errors", "0.03")),
+                Long.parseLong(options.getOrDefault("reaction", "400")));
+        long seed = Long.parseLong(options.getOrDefault("seed", "205"));
+
+        WordIndex words = DictionaryLoader.load();
+        long wallStart = System.nanoTime();
+        List<SessionReport> reports = run(words, profile, sessions, threads, seed);
+        double wallSeconds = (System.nanoTime() - wallStart) / 1e9;
+
+        long kills = 0, expired = 0, wrong = 0, simulatedMillis = 0, cpuNanos = 0;
+        int maxLevel = 0;
+        double levels = 0;
+        for (SessionReport report : reports) {
+            kills += report.getKills();
+            expired += report.getExpired();
+            wrong += report.getWrongSubmissions();
+            simulatedMillis += report.getSimulatedMillis();
+            cpuNanos += report.getCpuNanos();
+            levels += report.getLevel();
+            maxLevel = Math.max(maxLevel, report.getLevel());
+        }
+        double simulatedSeconds = simulatedMillis / 1000.0;
+        System.out.printf("%d sessions on %d threads, typist: %s%n", sessions, threads, profile);
+        System.out.printf("wall time %.2f s, %.0f simulated seconds per wall second%n",
+                wallSeconds, simulatedSeconds / wallSeconds);
+        System.out.printf("per session: %.1f kills, %.1f misses, %.1f wrong submissions, level %.2f (max %d)%n",
+                (double) kills / sessions, (double) expired / sessions, (double) wrong / sessions,
+                levels / sessions, maxLevel);
+        System.out.printf("engine CPU: %.3f ms per simulated second%n", (cpuNanos / 1e6) / simulatedSeconds);
+    }
+}
@@ -0,0 +1,101 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/20/2026
+ * Time: 9:45 AM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Simulation
+ * Class: SessionReport
+ *
+ * Description:
+ * The outcome of one simulated session: ghosts killed and missed, submissions with a typo,
+ * the final score, level and lives, and the CPU time the session took.
+ * **************************************
+ */
+package org.team11.Simulation;
+
+public class SessionReport {
+
+    private final int kills;
+    private final int expired;
+    private final int wrongSubmissions;
+    private final long keystrokes;
+    private final int score;
+    private final int level;
+    private final int lives;
+
+    // Simulated length of the session, in milliseconds
+    private final long simulatedMillis;
+
+    // CPU time spent on the session, in nanoseconds
+    private final long cpuNanos;
+
+    /**
+     * Creates a report
+     * @param bot the player of the session
+     * @param score final score
+     * @param level level reached
+     * @param lives lives left
+     * @param simulatedMillis simulated length of the session
+     * @param cpuNanos CPU time spent on the session
+     */
+    SessionReport(BotTypist bot, int score, int level, int lives, long simulatedMillis, long cpuNanos) {
+        this.kills = bot.getKills();
+        this.expired = bot.getExpired();
+        this.wrongSubmissions = bot.getWrongSubmissions();
+        this.keystrokes = bot.getKeystrokes();
+        this.score = score;
+        this.level = level;
+        this.lives = lives;
+        this.simulatedMillis = simulatedMillis;
+        this.cpuNanos = cpuNanos;
+    }
+
+    /**
+     * @return the CPU time per second of simulated play, in milliseconds
+     */
+    public double getCpuMillisPerSimulatedSecond() {
+        return simulatedMillis == 0 ? 0 : (cpuNanos / 1e6) / (simulatedMillis / 1000.0);
+    }
+
+    public int getKills() {
+        return kills;
+    }
+
+    public int getExpired() {
+        return expired;
+    }
+
+    public int getWrongSubmissions() {
+        return wrongSubmissions;
+    }
+
+    public long getKeystrokes() {
+        return keystrokes;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getLives() {
+        return lives;
+    }
+
+    public long getSimulatedMillis() {
+        return simulatedMillis;
+    }
+
+    public long getCpuNanos() {
+        return cpuNanos;
+    }
+}
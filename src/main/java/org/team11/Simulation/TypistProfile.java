@@ -0,0 +1,77 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/20/2026
+ * Time: 9:00 AM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Simulation
+ * Class: TypistProfile
+ *
+ * Description:
+ * How a simulated player types: speed in words per minute (five keystrokes per word),
+ * the chance that a keystroke hits the wrong key, and the time it takes to notice a ghost.
+ * **************************************
+ */
+package org.team11.Simulation;
+
+public class TypistProfile {
+
+    // Typing speed, in words of five keystrokes per minute
+    private final double wordsPerMinute;
+
+    // Chance that a keystroke hits the wrong key, between 0 and 1
+    private final double errorRate;
+
+    // Time to notice a ghost before typing its word, in milliseconds
+    private final long reactionMillis;
+
+    /**
+     * Creates a profile
+     * @param wordsPerMinute typing speed, in words of five keystrokes per minute
+     * @param errorRate chance that a keystroke hits the wrong key, between 0 and 1
+     * @param reactionMillis time to notice a ghost before typing its word
+     */
+    public TypistProfile(double wordsPerMinute, double errorRate, long reactionMillis) {
+        if (wordsPerMinute <= 0) {
+            throw new IllegalArgumentException("Typing speed must be positive: " + wordsPerMinute);
+        }
+        if (errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("Error rate must be between 0 and 1: " + errorRate);
+        }
+        if (reactionMillis < 0) {
+            throw new IllegalArgumentException("Reaction delay cannot be negative: " + reactionMillis);
+        }
+        this.wordsPerMinute = wordsPerMinute;
+        this.errorRate = errorRate;
+        this.reactionMillis = reactionMillis;
+    }
+
+    /**
+     * @return the time between two keystrokes, in milliseconds
+     */
+    public double getMillisPerKeystroke() {
+        return 60_000.0 / (wordsPerMinute * 5);
+    }
+
+    public double getWordsPerMinute() {
+        return wordsPerMinute;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    public long getReactionMillis() {
+        return reactionMillis;
+    }
+
+    @Override
+    public String toString() {
+        return wordsPerMinute + " wpm, " + errorRate + " errors, " + reactionMillis + " ms reaction";
+    }
+}
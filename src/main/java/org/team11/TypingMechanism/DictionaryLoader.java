@@ -0,0 +1,324 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/18/2026
+ * Time: 1:25 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.TypingMechanism
+ * Class: DictionaryLoader
+ *
+ * Description:
+ * Finds the word list and builds a WordIndex over it.
+ * The list comes from the path in the "keyfrenzy.dictionary" system property when it is set,
+ * otherwise from the Dictionary resource on the module/class path, so the game no longer
+ * depends on the working directory. Files on disk are memory-mapped read-only. A resource
+ * packed inside a jar cannot be mapped and is read into a single heap buffer instead.
+ * Indexing is two passes over the bytes: one to count the words of each length, one to
+ * record their start offsets.
+ * When the build produced a Dictionary.pack (see the compileDictionary task in build.gradle)
+ * the index is read from the pack in bulk instead, with no per-line parsing. The pack stores
+ * the length and CRC-32 of the text it was compiled from; if they no longer match the bundled
+ * text, or the pack is corrupt, the loader falls back to indexing the text.
+ * **************************************
+ */
+package org.team11.TypingMechanism;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+public class DictionaryLoader {
+
+    /** System property holding the path of a word list to use instead of the bundled one */
+    public static final String DICTIONARY_PROPERTY = "keyfrenzy.dictionary";
+
+    /** Name of the bundled word list on the class path */
+    public static final String DICTIONARY_RESOURCE = "/Dictionary";
+
+    /** Name of the precompiled word list on the class path */
+    public static final String PACK_RESOURCE = "/Dictionary.pack";
+
+    /** First four bytes of a dictionary pack, "KFDP" */
+    static final int PACK_MAGIC = 0x4B464450;
+
+    /** Version of the pack layout this loader reads */
+    static final int PACK_VERSION = 1;
+
+    /** Size of the fixed part of the pack header, in bytes */
+    private static final int PACK_HEADER = 32;
+
+    /** Flag set when the pack carries difficulty scores */
+    private static final int FLAG_SCORES = 1;
+
+    /**
+     * Not meant to be instantiated
+     */
+    private DictionaryLoader() {
+    }
+
+    /**
+     * Loads the configured word list, or the bundled one
+     * @return the index over the words
+     * @throws IOException if the word list cannot be read
+     */
+    public static WordIndex load() throws IOException {
+        String configured = System.getProperty(DICTIONARY_PROPERTY);
+        if (configured != null && !configured.isBlank()) {
+            return load(Paths.get(configured));
+        }
+
+        ByteBuffer text = findResource(DICTIONARY_RESOURCE);
+        ByteBuffer pack = findResource(PACK_RESOURCE);
+        if (pack != null) {
+            if (text == null || isPackOf(pack, text)) {
+                WordIndex index = readPack(pack);
+                if (index != null) {
+                    return index;
+                }
+                System.err.println("Dictionary pack is corrupt, loading the text dictionary");
+            } else {
+                System.err.println("Dictionary pack is stale, loading the text dictionary");
+            }
+        }
+        if (text == null) {
+            throw new FileNotFoundException("Resource not found: " + DICTIONARY_RESOURCE);
+        }
+        return index(text);
+    }
+
+    /**
+     * Loads a word list from a file
+     * @param path of the word list
+     * @return the index over the words
+     * @throws IOException if the word list cannot be read
+     */
+    public static WordIndex load(Path path) throws IOException {
+        ByteBuffer data = map(path);
+        if (isPack(data)) {
+            WordIndex index = readPack(data);
+            if (index == null) {
+                throw new IOException("Dictionary pack is corrupt: " + path);
+            }
+            return index;
+        }
+        return index(data);
+    }
+
+    /**
+     * Finds a resource on the class path, mapping it when it is a plain file
+     * @param name of the resource
+     * @return the bytes of the resource, null if there is no such resource
+     * @throws IOException if the resource cannot be read
+     */
+    static ByteBuffer findResource(String name) throws IOException {
+        URL url = DictionaryLoader.class.getResource(name);
+        if (url == null) {
+            return null;
+        }
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return map(Paths.get(url.toURI()));
+            } catch (URISyntaxException e) {
+                // Fall through and read it as a stream
+            }
+        }
+        try (InputStream in = url.openStream()) {
+            return ByteBuffer.wrap(in.readAllBytes()).asReadOnlyBuffer();
+        }
+    }
+
+    /**
+     * Maps a file into memory, read-only
+     * @param path of the file
+     * @return the mapped bytes
+     * @throws IOException if the file cannot be mapped
+     */
+    static ByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * @param data the bytes of a word list
+     * @return true if the bytes start like a dictionary pack
+     */
+    static boolean isPack(ByteBuffer data) {
+        return data.limit() >= PACK_HEADER && data.getInt(0) == PACK_MAGIC;
+    }
+
+    /**
+     * Checks that a pack was compiled from the given text
+     * @param pack the dictionary pack
+     * @param text the plain-text word list
+     * @return true if the length and CRC-32 recorded in the pack match the text
+     */
+    static boolean isPackOf(ByteBuffer pack, ByteBuffer text) {
+        if (!isPack(pack) || pack.getLong(8) != text.limit()) {
+            return false;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(text.duplicate());
+        return pack.getInt(16) == (int) crc.getValue();
+    }
+
+    /**
+     * Reads the index out of a dictionary pack with bulk reads only
+     * @param pack the dictionary pack
+     * @return the index, null if the pack is corrupt or of an unknown version
+     */
+    static WordIndex readPack(ByteBuffer pack) {
+        if (!isPack(pack) || pack.getInt(4) != PACK_VERSION) {
+            return null;
+        }
+        try {
+            ByteBuffer in = pack.duplicate().order(ByteOrder.BIG_ENDIAN);
+            in.position(20);
+            int flags = in.getInt();
+            int bucketCount = in.getInt();
+            int wordCount = in.getInt();
+            if (bucketCount <= 0 || wordCount < 0) {
+                return null;
+            }
+
+            int[] counts = new int[bucketCount];
+            in.asIntBuffer().get(counts);
+            in.position(in.position() + 4 * bucketCount);
+            long total = 0;
+            for (int count : counts) {
+                // Also keeps a corrupt count from allocating more than the pack could hold
+                if (count < 0 || count > in.remaining() / 4) {
+                    return null;
+                }
+                total += count;
+            }
+            if (total != wordCount) {
+                return null;
+            }
+
+            int[][] starts = new int[bucketCount][];
+            for (int length = 0; length < bucketCount; length++) {
+                starts[length] = new int[counts[length]];
+                in.asIntBuffer().get(starts[length]);
+                in.position(in.position() + 4 * counts[length]);
+            }
+
+            float[][] scores = null;
+            if ((flags & FLAG_SCORES) != 0) {
+                scores = new float[bucketCount][];
+                for (int length = 0; length < bucketCount; length++) {
+                    scores[length] = new float[counts[length]];
+                    in.asFloatBuffer().get(scores[length]);
+                    in.position(in.position() + 4 * counts[length]);
+                }
+            }
+
+            int wordBytes = in.getInt();
+            if (wordBytes != in.remaining()) {
+                return null;
+            }
+            for (int[] lengthStarts : starts) {
+                for (int start : lengthStarts) {
+                    if (start < 0 || start >= wordBytes) {
+                        return null;
+                    }
+                }
+            }
+            return new WordIndex(in.slice(), starts, scores);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Builds the index over a word list with one UTF-8 word per line.
+     * Empty lines are skipped, both \n and \r\n line endings are accepted.
+     * @param data the word list
+     * @return the index over the words
+     */
+    public static WordIndex index(ByteBuffer data) {
+        int limit = data.limit();
+
+        // First pass: count the words of each length
+        int[] counts = new int[16];
+        int length = 0;
+        for (int i = 0; i < limit; i++) {
+            byte b = data.get(i);
+            if (b == '\n' || b == '\r') {
+                if (length > 0) {
+                    counts = count(counts, length);
+                }
+                length = 0;
+            } else if ((b & 0xC0) != 0x80) {
+                // Count characters, not UTF-8 continuation bytes
+                length++;
+            }
+        }
+        if (length > 0) {
+            counts = count(counts, length);
+        }
+
+        int maxLength = 0;
+        for (int l = 0; l < counts.length; l++) {
+            if (counts[l] > 0) {
+                maxLength = l;
+            }
+        }
+        int[][] starts = new int[maxLength + 1][];
+        for (int l = 0; l <= maxLength; l++) {
+            starts[l] = new int[counts[l]];
+        }
+
+        // Second pass: record where each word starts
+        int[] filled = new int[maxLength + 1];
+        int start = 0;
+        length = 0;
+        for (int i = 0; i < limit; i++) {
+            byte b = data.get(i);
+            if (b == '\n' || b == '\r') {
+                if (length > 0) {
+                    starts[length][filled[length]++] = start;
+                }
+                length = 0;
+                start = i + 1;
+            } else if ((b & 0xC0) != 0x80) {
+                length++;
+            }
+        }
+        if (length > 0) {
+            starts[length][filled[length]++] = start;
+        }
+        return new WordIndex(data, starts);
+    }
+
+    /**
+     * Adds one word to the counts, growing the array when needed
+     * @param counts the word counts by length
+     * @param length of the word
+     * @return the counts
+     */
+    private static int[] count(int[] counts, int length) {
+        if (length >= counts.length) {
+            int[] grown = new int[Math.max(length + 1, counts.length * 2)];
+            System.arraycopy(counts, 0, grown, 0, counts.length);
+            counts = grown;
+        }
+        counts[length]++;
+        return counts;
+    }
+}
@@ -0,0 +1,181 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/25/2026
+ * Time: 3:00 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.TypingMechanism
+ * Class: DifficultyIndex
+ *
+ * Description:
+ * The words of a WordIndex sorted by their WordDifficulty score, in two primitive arrays:
+ * the scores in ascending order, and the byte offset of the word with each score. The words
+ * with a score in a band [from, to) are then a contiguous slice of ranks, found with two
+ * binary searches.
+ * Building the index scores every word with a parallel stream, straight from the bytes of the
+ * word list, and sorts them with a parallel sort on one long per word (the score bits above
+ * the offset), so loading scales with the number of cores. Scores precompiled into a dictionary
+ * pack are used instead of scoring the words again. The index is immutable once built.
+ * **************************************
+ */
+package org.team11.TypingMechanism;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+public class DifficultyIndex {
+
+    // The words
+    private final WordIndex words;
+
+    // Scores of the words in ascending order, indexed by rank
+    private final float[] scores;
+
+    // Offsets of the words in the data of the WordIndex, indexed by rank
+    private final int[] starts;
+
+    /**
+     * Creates the index
+     * @param words the words
+     * @param scores scores of the words in ascending order
+     * @param starts offsets of the words, in the same order
+     */
+    private DifficultyIndex(WordIndex words, float[] scores, int[] starts) {
+        this.words = words;
+        this.scores = scores;
+        this.starts = starts;
+    }
+
+    /**
+     * Scores and sorts every word of an index, in parallel.
+     * Usually called through WordIndex.byDifficulty(), which builds it once.
+     * @param words the words
+     * @return the words sorted by difficulty
+     */
+    public static DifficultyIndex build(WordIndex words) {
+        ByteBuffer data = words.data();
+        boolean packed = words.hasScores();
+
+        // One long per word: the score bits sort like the scores, since scores are positive
+        long[] keys = new long[words.size()];
+        int base = 0;
+        for (int length = 0; length <= words.getMaxLength(); length++) {
+            int[] lengthStarts = words.starts(length);
+            int offset = base;
+            int finalLength = length;
+            IntStream.range(0, lengthStarts.length).parallel().forEach(slot -> {
+                float score = packed ? words.getScore(finalLength, slot) : Float.NaN;
+                if (!(score >= 0)) {
+                    score = WordDifficulty.score(data, lengthStarts[slot]);
+                }
+                keys[offset + slot] = (long) Float.floatToIntBits(score) << 32 | lengthStarts[slot];
+            });
+            base += lengthStarts.length;
+        }
+        Arrays.parallelSort(keys);
+
+        float[] scores = new float[keys.length];
+        int[] starts = new int[keys.length];
+        IntStream.range(0, keys.length).parallel().forEach(rank -> {
+            scores[rank] = Float.intBitsToFloat((int) (keys[rank] >>> 32));
+            starts[rank] = (int) keys[rank];
+        });
+        return new DifficultyIndex(words, scores, starts);
+    }
+
+    /**
+     * @return the number of words
+     */
+    public int size() {
+        return scores.length;
+    }
+
+    /**
+     * @param rank of the word, 0 is the easiest
+     * @return the score of the word
+     */
+    public float scoreAt(int rank) {
+        return scores[rank];
+    }
+
+    /**
+     * @param rank of the word, 0 is the easiest
+     * @return the word
+     */
+    public String wordAt(int rank) {
+        return words.wordAt(starts[rank]);
+    }
+
+    /**
+     * Finds where a score falls in the sorted words
+     * @param score a difficulty score
+     * @return the rank of the first word with at least this score, size() if there is none
+     */
+    public int rankOf(float score) {
+        int low = 0;
+        int high = scores.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (scores[middle] < score) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @param from lowest score of the band
+     * @param to score above the band, excluded
+     * @return the number of words with a score in [from, to)
+     */
+    public int count(float from, float to) {
+        return Math.max(0, rankOf(to) - rankOf(from));
+    }
+
+    /**
+     * Draws words from a difficulty band, without repeats
+     * @param from lowest score of the band
+     * @param to score above the band, excluded
+     * @param n number of words wanted
+     * @param rand used to draw the words
+     * @return n words with a score in [from, to), or the whole band, easiest first, if it has
+     * no more than n words
+     */
+    public List<String> band(float from, float to, int n, Random rand) {
+        int low = rankOf(from);
+        int count = Math.max(0, rankOf(to) - low);
+        int wanted = Math.max(0, Math.min(n, count));
+        List<String> band = new ArrayList<>(wanted);
+        if (wanted == count) {
+            for (int rank = low; rank < low + count; rank++) {
+                band.add(wordAt(rank));
+            }
+            return band;
+        }
+
+        // Floyd's algorithm: n distinct ranks in O(n), whatever the size of the band
+        Set<Integer> picked = new HashSet<>();
+        for (int i = count - wanted; i < count; i++) {
+            int pick = rand.nextInt(i + 1);
+            if (!picked.add(pick)) {
+                picked.add(i);
+                pick = i;
+            }
+            band.add(wordAt(low + pick));
+        }
+        return band;
+    }
+}
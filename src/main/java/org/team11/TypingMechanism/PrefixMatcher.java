@@ -0,0 +1,381 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/18/2026
+ * Time: 5:20 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.TypingMechanism
+ * Class: PrefixMatcher
+ *
+ * Description:
+ * Matches the words of the ghosts on screen against what the player is typing, one key at a time.
+ * The active words are kept in a trie stored in primitive arrays (first child, next sibling,
+ * character, number of words through the node, ghosts whose word ends at the node). The trie
+ * node reached by the typed text is the candidate set: every ghost whose word goes through it
+ * starts with the typed text, and the depth of the node is how much of its word is highlighted.
+ * So typing a character is one step down the trie, clearing the typed text goes back to the
+ * root, and neither touches a single ghost, whatever the number of ghosts on screen.
+ * The ghosts ending at a node are kept in a linked list of slots, oldest first, so the oldest
+ * exact match is at its head; an identity map from ghost to slot makes removing a ghost O(1)
+ * plus one walk down its word. The view asks for the highlight of each ghost when it draws it.
+ * Typing a character allocates nothing. Trie nodes and slots of removed words are recycled.
+ * **************************************
+ */
+package org.team11.TypingMechanism;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+public class PrefixMatcher<G> {
+
+    // Index of the root node
+    private static final int ROOT = 0;
+
+    // Marks a missing node or slot
+    private static final int NONE = -1;
+
+    // Trie nodes, stored as parallel arrays
+    private int[] firstChild;
+    private int[] nextSibling;
+    private char[] character;
+    private int[] wordsThrough;
+    private int nodeCount;
+
+    // Slots of the ghosts whose word ends at each node, oldest first
+    private int[] firstEnding;
+    private int[] lastEnding;
+
+    // Recycled nodes, linked through nextSibling
+    private int freeNode = NONE;
+
+    // One slot per active ghost, stored as parallel arrays: the ghost, the node its word ends
+    // at, and its neighbours in the list of its node
+    private Object[] slotGhost;
+    private int[] slotNode;
+    private int[] slotPrevious;
+    private int[] slotNext;
+    private int slotCount;
+
+    // Recycled slots, linked through slotNext
+    private int freeSlot = NONE;
+
+    // Slot of every active ghost, compared by identity
+    private final Map<G, Integer> slots = new IdentityHashMap<>();
+
+    // The case-folded characters typed so far
+    private char[] typed = new char[32];
+    private int depth;
+
+    // Trie node of the typed text, NONE once no word starts with it
+    private int node = ROOT;
+
+    /**
+     * Creates an empty matcher
+     */
+    public PrefixMatcher() {
+        firstChild = new int[64];
+        nextSibling = new int[64];
+        character = new char[64];
+        wordsThrough = new int[64];
+        firstEnding = new int[64];
+        lastEnding = new int[64];
+        nodeCount = 1;
+        firstChild[ROOT] = NONE;
+        nextSibling[ROOT] = NONE;
+        firstEnding[ROOT] = NONE;
+        lastEnding[ROOT] = NONE;
+
+        slotGhost = new Object[64];
+        slotNode = new int[64];
+        slotPrevious = new int[64];
+        slotNext = new int[64];
+    }
+
+    /**
+     * Adds the word of a ghost that was just spawned
+     * @param key normalized word of the ghost
+     * @param ghost the ghost
+     */
+    public void add(String key, G ghost) {
+        int current = ROOT;
+        wordsThrough[ROOT]++;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            int child = child(current, c);
+            if (child == NONE) {
+                child = newNode(c);
+                nextSibling[child] = firstChild[current];
+                firstChild[current] = child;
+            }
+            wordsThrough[child]++;
+            current = child;
+        }
+
+        // Append the ghost to the ones ending at the node, so the oldest stays first
+        int slot = newSlot(ghost, current);
+        slotPrevious[slot] = lastEnding[current];
+        if (lastEnding[current] == NONE) {
+            firstEnding[current] = slot;
+        } else {
+            slotNext[lastEnding[current]] = slot;
+        }
+        lastEnding[current] = slot;
+        slots.put(ghost, slot);
+
+        // The new word may be the first one to start with what the player is typing
+        if (node == NONE) {
+            node = find();
+        }
+    }
+
+    /**
+     * Removes the word of a ghost that was killed or expired
+     * @param key normalized word of the ghost
+     * @param ghost the ghost
+     * @return true if the ghost was in the matcher
+     */
+    public boolean remove(String key, G ghost) {
+        Integer found = slots.remove(ghost);
+        if (found == null) {
+            return false;
+        }
+        int slot = found;
+        int ending = slotNode[slot];
+        if (slotPrevious[slot] == NONE) {
+            firstEnding[ending] = slotNext[slot];
+        } else {
+            slotNext[slotPrevious[slot]] = slotNext[slot];
+        }
+        if (slotNext[slot] == NONE) {
+            lastEnding[ending] = slotPrevious[slot];
+        } else {
+            slotPrevious[slotNext[slot]] = slotPrevious[slot];
+        }
+        slotGhost[slot] = null;
+        slotNext[slot] = freeSlot;
+        freeSlot = slot;
+
+        int parent = ROOT;
+        wordsThrough[ROOT]--;
+        for (int i = 0; i < key.length(); i++) {
+            int child = child(parent, key.charAt(i));
+            wordsThrough[child]--;
+            if (wordsThrough[child] == 0) {
+                // No other word uses this branch, recycle it
+                unlink(parent, child);
+                freeBranch(child, key, i);
+                break;
+            }
+            parent = child;
+        }
+
+        // The node of the typed text may have been recycled
+        if (depth > 0) {
+            node = find();
+        }
+        return true;
+    }
+
+    /**
+     * Moves the match forward by one typed character
+     * @param c the typed character
+     * @return true if at least one active word starts with the typed text
+     */
+    public boolean type(char c) {
+        char folded = Character.toLowerCase(c);
+        if (depth == typed.length) {
+            typed = Arrays.copyOf(typed, depth * 2);
+        }
+        typed[depth++] = folded;
+        node = node == NONE ? NONE : child(node, folded);
+        return node != NONE;
+    }
+
+    /**
+     * Clears the typed text, every active ghost becomes a candidate again
+     */
+    public void reset() {
+        depth = 0;
+        node = ROOT;
+    }
+
+    /**
+     * @param key normalized word of an active ghost
+     * @return the number of characters of the word matched by the typed text, 0 if the word
+     * does not start with the typed text; costs the length of the typed text at most
+     */
+    public int matchedLength(String key) {
+        if (node == NONE || depth == 0 || key.length() < depth) {
+            return 0;
+        }
+        for (int i = 0; i < depth; i++) {
+            if (key.charAt(i) != typed[i]) {
+                return 0;
+            }
+        }
+        return depth;
+    }
+
+    /**
+     * @return the oldest ghost whose word was typed completely, or null
+     */
+    @SuppressWarnings("unchecked")
+    public G exactMatch() {
+        if (node == NONE || depth == 0 || firstEnding[node] == NONE) {
+            return null;
+        }
+        return (G) slotGhost[firstEnding[node]];
+    }
+
+    /**
+     * @return true if at least one active word starts with the typed text
+     */
+    public boolean hasCandidates() {
+        return node != NONE && wordsThrough[node] > 0;
+    }
+
+    /**
+     * @return the number of active ghosts whose word starts with the typed text
+     */
+    public int getCandidateCount() {
+        return node == NONE ? 0 : wordsThrough[node];
+    }
+
+    /**
+     * @return the number of characters typed
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * @return the number of active words
+     */
+    public int size() {
+        return slots.size();
+    }
+
+    /**
+     * @param parent trie node
+     * @param c character
+     * @return the child of the node for the character, NONE if there is none
+     */
+    private int child(int parent, char c) {
+        for (int child = firstChild[parent]; child != NONE; child = nextSibling[child]) {
+            if (character[child] == c) {
+                return child;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * @return the trie node of the typed text, NONE if no word starts with it
+     */
+    private int find() {
+        int current = ROOT;
+        for (int i = 0; i < depth && current != NONE; i++) {
+            current = child(current, typed[i]);
+        }
+        return current;
+    }
+
+    /**
+     * Takes a node from the free list or grows the arrays
+     * @param c character of the node
+     * @return the new node
+     */
+    private int newNode(char c) {
+        int created;
+        if (freeNode != NONE) {
+            created = freeNode;
+            freeNode = nextSibling[created];
+        } else {
+            if (nodeCount == firstChild.length) {
+                int capacity = nodeCount * 2;
+                firstChild = Arrays.copyOf(firstChild, capacity);
+                nextSibling = Arrays.copyOf(nextSibling, capacity);
+                character = Arrays.copyOf(character, capacity);
+                wordsThrough = Arrays.copyOf(wordsThrough, capacity);
+                firstEnding = Arrays.copyOf(firstEnding, capacity);
+                lastEnding = Arrays.copyOf(lastEnding, capacity);
+            }
+            created = nodeCount++;
+        }
+        firstChild[created] = NONE;
+        nextSibling[created] = NONE;
+        character[created] = c;
+        wordsThrough[created] = 0;
+        firstEnding[created] = NONE;
+        lastEnding[created] = NONE;
+        return created;
+    }
+
+    /**
+     * Takes a slot from the free list or grows the arrays
+     * @param ghost held by the slot
+     * @param ending trie node the word of the ghost ends at
+     * @return the new slot, not linked yet
+     */
+    private int newSlot(G ghost, int ending) {
+        int created;
+        if (freeSlot != NONE) {
+            created = freeSlot;
+            freeSlot = slotNext[created];
+        } else {
+            if (slotCount == slotGhost.length) {
+                int capacity = slotCount * 2;
+                slotGhost = Arrays.copyOf(slotGhost, capacity);
+                slotNode = Arrays.copyOf(slotNode, capacity);
+                slotPrevious = Arrays.copyOf(slotPrevious, capacity);
+                slotNext = Arrays.copyOf(slotNext, capacity);
+            }
+            created = slotCount++;
+        }
+        slotGhost[created] = ghost;
+        slotNode[created] = ending;
+        slotPrevious[created] = NONE;
+        slotNext[created] = NONE;
+        return created;
+    }
+
+    /**
+     * Detaches a child from the children of its parent
+     * @param parent trie node
+     * @param child trie node to detach
+     */
+    private void unlink(int parent, int child) {
+        if (firstChild[parent] == child) {
+            firstChild[parent] = nextSibling[child];
+            return;
+        }
+        for (int sibling = firstChild[parent]; sibling != NONE; sibling = nextSibling[sibling]) {
+            if (nextSibling[sibling] == child) {
+                nextSibling[sibling] = nextSibling[child];
+                return;
+            }
+        }
+    }
+
+    /**
+     * Puts a branch that no word uses any more on the free list
+     * @param top first node of the branch
+     * @param key the removed word
+     * @param position index in the word of the character of the top node
+     */
+    private void freeBranch(int top, String key, int position) {
+        int current = top;
+        for (int i = position; current != NONE; i++) {
+            int below = i + 1 < key.length() ? child(current, key.charAt(i + 1)) : NONE;
+            nextSibling[current] = freeNode;
+            freeNode = current;
+            current = below;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/26/2026
+ * Time: 1:30 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.TypingMechanism
+ * Class: TypoMatcher
+ *
+ * Description:
+ * Finds the word on screen closest to a submitted word, within an edit distance k (insertions,
+ * deletions and substitutions), for the typo-tolerant mode.
+ * Short words tolerate fewer typos: a word of n characters accepts at most (n - 1) / 2 edits,
+ * so a two-letter word must be typed exactly and a submission never matches a word it shares
+ * only one letter with.
+ * Comparing the submission with every word would cost O(words x length^2). Instead every word
+ * on screen is indexed, when its ghost spawns, under each string obtained by deleting up to k
+ * of its characters, or fewer for a short word. Two words are within distance k only if they share such a deletion, so a
+ * submission only looks up its own deletions, O(length^k) lookups whatever the number of ghosts,
+ * and the few candidates found are checked with Myers' bit-parallel edit distance, which
+ * compares a word of up to 64 characters in one pass of a handful of bit operations per
+ * character. Typing a character costs nothing extra: the matcher only runs on submission.
+ * **************************************
+ */
+package org.team11.TypingMechanism;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class TypoMatcher {
+
+    /** The largest edit distance supported, the index grows as length^k */
+    public static final int MAX_DISTANCE = 2;
+
+    // Edit distance accepted
+    private final int maxDistance;
+
+    // Number of ghosts on screen carrying each word
+    private final Map<String, Integer> words = new HashMap<>();
+
+    // The words on screen, by every string obtained by deleting up to as many characters as
+    // the word tolerates typos
+    private final Map<String, List<String>> byDeletion = new HashMap<>();
+
+    // Positions of each ASCII character in the pattern, reused by every distance computation
+    private final long[] positions = new long[128];
+
+    // Edit distance of the last match, -1 if there was none
+    private int distance = -1;
+
+    /**
+     * Creates a matcher
+     * @param maxDistance edit distance accepted, between 1 and MAX_DISTANCE
+     */
+    public TypoMatcher(int maxDistance) {
+        if (maxDistance < 1 || maxDistance > MAX_DISTANCE) {
+            throw new IllegalArgumentException("Edit distance must be between 1 and " + MAX_DISTANCE
+                    + ": " + maxDistance);
+        }
+        this.maxDistance = maxDistance;
+    }
+
+    /**
+     * Adds the word of a ghost that was just spawned
+     * @param word normalized word of the ghost
+     */
+    public void add(String word) {
+        if (words.merge(word, 1, Integer::sum) == 1) {
+            for (String deletion : deletions(word, tolerance(word))) {
+                byDeletion.computeIfAbsent(deletion, d -> new ArrayList<>(1)).add(word);
+            }
+        }
+    }
+
+    /**
+     * Removes the word of a ghost that was killed or expired
+     * @param word normalized word of the ghost
+     */
+    public void remove(String word) {
+        Integer count = words.get(word);
+        if (count == null) {
+            return;
+        }
+        if (count > 1) {
+            words.put(word, count - 1);
+            return;
+        }
+        words.remove(word);
+        for (String deletion : deletions(word, tolerance(word))) {
+            List<String> sharing = byDeletion.get(deletion);
+            sharing.remove(word);
+            if (sharing.isEmpty()) {
+                byDeletion.remove(deletion);
+            }
+        }
+    }
+
+    /**
+     * Finds the word on screen closest to a submission.
+     * An exact match always wins; among near matches the smallest distance wins, then the
+     * first word in alphabetical order, so the result does not depend on the spawn order.
+     * @param typed the normalized submission
+     * @return the closest word within the edit distance it tolerates, or null if there is none
+     */
+    public String closest(String typed) {
+        distance = -1;
+        if (typed.isEmpty()) {
+            return null;
+        }
+        if (words.containsKey(typed)) {
+            distance = 0;
+            return typed;
+        }
+        String best = null;
+        for (String deletion : deletions(typed, maxDistance)) {
+            List<String> candidates = byDeletion.get(deletion);
+            if (candidates == null) {
+                continue;
+            }
+            for (String candidate : candidates) {
+                int d = distance(candidate, typed);
+                if (d <= tolerance(candidate) && (best == null || d < distance
+                        || d == distance && candidate.compareTo(best) < 0)) {
+                    best = candidate;
+                    distance = d;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @param word a word on screen
+     * @return the edit distance accepted for the word, smaller for short words
+     */
+    int tolerance(String word) {
+        return Math.min(maxDistance, (word.length() - 1) / 2);
+    }
+
+    /**
+     * @return the edit distance of the last match, 0 for an exact match, -1 if there was none
+     */
+    public int getDistance() {
+        return distance;
+    }
+
+    /**
+     * @return the number of different words on screen
+     */
+    public int size() {
+        return words.size();
+    }
+
+    /**
+     * Computes the edit distance between two words, with Myers' bit-parallel algorithm when
+     * the pattern fits in 64 bits
+     * @param pattern the first word
+     * @param text the second word
+     * @return the number of insertions, deletions and substitutions between them
+     */
+    int distance(CharSequence pattern, CharSequence text) {
+        int m = pattern.length();
+        if (m == 0) {
+            return text.length();
+        }
+        if (m > 64) {
+            return levenshtein(pattern, text);
+        }
+        for (int i = 0; i < m; i++) {
+            char c = pattern.charAt(i);
+            if (c < positions.length) {
+                positions[c] |= 1L << i;
+            }
+        }
+
+        // Vertical deltas of the last column, +1 everywhere at the start
+        long plusVertical = -1L;
+        long minusVertical = 0;
+        long last = 1L << (m - 1);
+        int score = m;
+        for (int j = 0; j < text.length(); j++) {
+            long equal = equalMask(pattern, text.charAt(j));
+            long x = equal | minusVertical;
+            long xh = (((equal & plusVertical) + plusVertical) ^ plusVertical) | equal;
+            long plusHorizontal = minusVertical | ~(xh | plusVertical);
+            long minusHorizontal = plusVertical & xh;
+            if ((plusHorizontal & last) != 0) {
+                score++;
+            } else if ((minusHorizontal & last) != 0) {
+                score--;
+            }
+            // The first row is the distance to an empty pattern, it grows by one every step
+            plusHorizontal = (plusHorizontal << 1) | 1;
+            minusHorizontal <<= 1;
+            plusVertical = minusHorizontal | ~(x | plusHorizontal);
+            minusVertical = plusHorizontal & x;
+        }
+
+        for (int i = 0; i < m; i++) {
+            char c = pattern.charAt(i);
+            if (c < positions.length) {
+                positions[c] = 0;
+            }
+        }
+        return score;
+    }
+
+    /**
+     * @param pattern the word being compared
+     * @param c a character of the other word
+     * @return a bit mask of the positions of the character in the pattern
+     */
+    private long equalMask(CharSequence pattern, char c) {
+        if (c < positions.length) {
+            return positions[c];
+        }
+        long mask = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            if (pattern.charAt(i) == c) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Computes the edit distance with the classic dynamic program, for words over 64 characters
+     * @param a the first word
+     * @param b the second word
+     * @return the edit distance
+     */
+    static int levenshtein(CharSequence a, CharSequence b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * @param word a word
+     * @param k most characters deleted
+     * @return the word and every different string obtained by deleting up to k of its characters
+     */
+    static Set<String> deletions(String word, int k) {
+        Set<String> all = new HashSet<>();
+        all.add(word);
+        List<String> level = List.of(word);
+        for (int d = 0; d < k; d++) {
+            List<String> next = new ArrayList<>();
+            for (String s : level) {
+                for (int i = 0; i < s.length(); i++) {
+                    String deleted = s.substring(0, i) + s.substring(i + 1);
+                    if (all.add(deleted)) {
+                        next.add(deleted);
+                    }
+                }
+            }
+            level = next;
+        }
+        return all;
+    }
+}
@@ -12,60 +12,111 @@
  * Package: org.team11.GameView
  * Class: WordDictionary
  *
- * Description: this class reads the dictionary and puts it in a map with the
- * key = length of the words and the value are all the words of that length
+ * Description: this class loads the dictionary through the DictionaryLoader, which indexes
+ * the words by length without turning them into Strings until they are drawn
  * this class supports a getWord method.
  * the getWord method returns a List<String> based on
  * the level of the game and the number of words desired in the List<String>
  * this method is also overridden so that the number of words in the List<String>
  * is always 16 and the level increments each time the method is called
+ * Each length bucket has its own WordSampler, so a word is drawn in O(1) without
+ * repeating until the bucket runs out, and a missing bucket falls back to the closest length.
+ * The dictionary file is read once per process: the WordIndex is immutable and shared by
+ * every session and thread, and a WordDictionary is only the draw state of one session
+ * (its samplers and Random), a cursor over the shared index whose memory grows with the
+ * words it drew, not with the size of the dictionary.
+ * Loading the shared index also scores every word with WordDifficulty, in parallel, so words
+ * can be drawn by difficulty band as well as by length.
  *
  * ****************************************
  */
 package org.team11.TypingMechanism;
 
 
-import java.io.BufferedReader;
-import java.io.FileReader;
+import org.team11.Assets.AssetCache;
+import org.team11.Metrics.DictionaryLoadEvent;
+import org.team11.Metrics.GameMetrics;
+
 import java.io.IOException;
-import java.util.*;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
 
 public class WordDictionary {
 
-    private final Map<Integer, List<String>> wordsByLength = new HashMap<>();
+    // The words, indexed by length
+    private final WordIndex wordIndex;
+
+    // One sampler per word length, created the first time the length is drawn
+    private final WordSampler[] samplers;
 
-    private final Set<String> currentWords;
     private final Random rand;
 
     /**
-     * The constructor for the WordDictionary class
+     * The constructor for the WordDictionary class, over the shared index
      */
     public WordDictionary() {
-        loadFileIntoMap();
-        rand = new Random(System.currentTimeMillis());
-        currentWords = new HashSet<>();
+        this(new Random(System.currentTimeMillis()));
     }
 
+    /**
+     * The constructor for the WordDictionary class with a given source of randomness,
+     * over the shared index
+     * @param rand used to draw the words
+     */
+    public WordDictionary(Random rand) {
+        this(cachedIndex(), rand);
+    }
 
     /**
-     * Loads the first 100 lines from the dictionary file
-     *
+     * The constructor for the WordDictionary class over an already loaded index
+     * @param wordIndex the words, indexed by length
+     * @param rand used to draw the words
      */
+    public WordDictionary(WordIndex wordIndex, Random rand) {
+        this.wordIndex = wordIndex;
+        this.samplers = new WordSampler[wordIndex.getMaxLength() + 1];
+        this.rand = rand;
+    }
 
-    private void loadFileIntoMap(){
-        try (BufferedReader reader = new BufferedReader(new FileReader("src/main/resources/Dictionary"))) {
-            String line;
-            List<String> dictionary = new ArrayList<>();
-            while ((line = reader.readLine()) != null) {
-                dictionary.add(line);
-                int length = line.length();
-                wordsByLength.computeIfAbsent(length, k -> new ArrayList<>()).add(line);
-            }
+
+    /**
+     * Loads the dictionary once for the whole application, through the AssetCache, so the
+     * game can load it in the background before the first session starts.
+     * Every session draws from this index, concurrent callers wait for the one load.
+     * The words are sorted by difficulty as part of the load.
+     * @return the shared index, empty if the file could not be loaded
+     */
+    public static WordIndex cachedIndex() {
+        return AssetCache.getShared().get("dictionary", () -> {
+            WordIndex index = loadFileIntoMap();
+            index.byDifficulty();
+            return index;
+        });
+    }
+
+    /**
+     * Reads the dictionary file and indexes it by word length, bypassing the shared index
+     * @return a new index, empty if the file could not be loaded
+     */
+    public static WordIndex loadFileIntoMap(){
+        DictionaryLoadEvent event = new DictionaryLoadEvent();
+        event.begin();
+        WordIndex index;
+        try {
+            index = DictionaryLoader.load();
         } catch (IOException e) {
             System.err.println("Error in loading the file");
             e.printStackTrace();
+            index = DictionaryLoader.index(ByteBuffer.allocate(0));
+            event.failed = true;
         }
-
+        if (event.shouldCommit()) {
+            event.words = index.size();
+            event.commit();
+        }
+        return index;
     }
 
     /**
@@ -75,28 +126,58 @@ public class WordDictionary {
 
     public String getWord(int level){ //assume level keeps increasing everytime getWords is called and only 16 words are returned
 
-        Integer key = level + 1; //because the first level starts with two letters
-        List<String> words = wordsByLength.get(key);
+        int requested = level + 1; //because the first level starts with two letters
+        int length = closestLength(requested);
 
-        if (words == null || words.isEmpty()) {
-            // You can choose to return null or throw a custom exception
-            // If you choose to throw an exception, make sure to update your unit test accordingly.
-            throw new NoSuchElementException("No words available for the given level: " + level);
-            // Shuffle in random order
+        // Draw without replacement, the sampler starts over once the bucket is used up
+        WordSampler sampler = samplers[length];
+        if (sampler == null) {
+            sampler = new WordSampler(wordIndex.count(length), rand);
+            samplers[length] = sampler;
         }
-        Collections.shuffle(words);
+        GameMetrics.getShared().wordDrawn(length != requested, sampler.remaining() == 0);
+        return wordIndex.wordAt(length, sampler.next());
+    }
 
+    /**
+     * Get words within a band of difficulty, see WordDifficulty for the scores
+     * @param from lowest difficulty score
+     * @param to difficulty score above the band, excluded
+     * @param count number of words wanted
+     * @return up to count different words with a score in [from, to)
+     */
+    public List<String> getWords(float from, float to, int count) {
+        return wordIndex.byDifficulty().band(from, to, count, rand);
+    }
 
-        String word;
-        do {
-            word = words.get(rand.nextInt(wordsByLength.size()));
-        } while (currentWords.contains(word));
-        currentWords.add(word);
-        return word;
+    /**
+     * Finds the word length to draw from, the requested one if there are words of that
+     * length, otherwise the closest length that has words (the shorter one on a tie)
+     * @param length the requested word length
+     * @return a length that has at least one word
+     */
+    private int closestLength(int length) {
+        if (wordIndex.count(length) > 0) {
+            return length;
+        }
+        int maxLength = wordIndex.getMaxLength();
+        for (int distance = 1; distance <= Math.max(length, maxLength); distance++) {
+            if (wordIndex.count(length - distance) > 0) {
+                return length - distance;
+            }
+            if (wordIndex.count(length + distance) > 0) {
+                return length + distance;
+            }
+        }
+        throw new NoSuchElementException("No words available for the given length: " + length);
+    }
 
+    /**
+     * @return the number of words in the dictionary
+     */
+    public int size() {
+        return wordIndex.size();
     }
 
 
 }
-
-
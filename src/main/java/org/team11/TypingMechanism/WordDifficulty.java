@@ -0,0 +1,172 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/25/2026
+ * Time: 2:00 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.TypingMechanism
+ * Class: WordDifficulty
+ *
+ * Description:
+ * Scores how hard a word is to type on a QWERTY keyboard. Every keystroke costs 1, plus:
+ * - the distance the finger travels from the previous key, in key widths
+ * - a penalty when the previous key was typed by the same hand, instead of alternating
+ * - the rarity of the letter in English text, rare letters are slower to find
+ * - a penalty for every letter already typed earlier in the word
+ * The score grows with the length of the word, so a long word is always harder than a short
+ * word with similar keys. Characters that are not on the letter keys cost as much as the
+ * rarest letter. The score only reads the word, it is safe to compute from many threads.
+ * **************************************
+ */
+package org.team11.TypingMechanism;
+
+import java.nio.ByteBuffer;
+
+public class WordDifficulty {
+
+    /** Weight of the distance travelled between two keys, per key width */
+    public static final float TRAVEL_WEIGHT = 0.15f;
+
+    /** Cost of typing two keys in a row with the same hand */
+    public static final float SAME_HAND_WEIGHT = 0.3f;
+
+    /** Weight of the rarity of a letter, from 0 for "e" to 1 for "z" */
+    public static final float RARITY_WEIGHT = 0.5f;
+
+    /** Cost of a letter already typed earlier in the word */
+    public static final float REPEAT_WEIGHT = 0.2f;
+
+    // The rows of the keyboard, and how far each row is shifted to the right
+    private static final String[] ROWS = {"qwertyuiop", "asdfghjkl", "zxcvbnm"};
+    private static final float[] ROW_SHIFT = {0f, 0.25f, 0.75f};
+
+    // Frequency of the letters in English text, in percent, from a to z
+    private static final float[] FREQUENCY = {8.17f, 1.29f, 2.78f, 4.25f, 12.70f, 2.23f, 2.02f,
+            6.09f, 6.97f, 0.15f, 0.77f, 4.03f, 2.41f, 6.75f, 7.51f, 1.93f, 0.095f, 5.99f, 6.33f,
+            9.06f, 2.76f, 0.98f, 2.36f, 0.15f, 1.97f, 0.074f};
+
+    // Position of every letter key, and whether it is typed with the left hand
+    private static final float[] KEY_X = new float[26];
+    private static final float[] KEY_Y = new float[26];
+    private static final boolean[] LEFT_HAND = new boolean[26];
+
+    // Rarity of every letter, between 0 and 1
+    private static final float[] RARITY = new float[26];
+
+    // Key index before the first character of a word, and of a character not on the letter keys
+    private static final int NO_KEY = -1;
+    private static final int OTHER_KEY = -2;
+
+    static {
+        for (int row = 0; row < ROWS.length; row++) {
+            for (int column = 0; column < ROWS[row].length(); column++) {
+                int key = ROWS[row].charAt(column) - 'a';
+                KEY_X[key] = column + ROW_SHIFT[row];
+                KEY_Y[key] = row;
+                // The left hand types the first five keys of every row
+                LEFT_HAND[key] = column < 5;
+            }
+        }
+        double most = Math.log(12.70), least = Math.log(0.074);
+        for (int key = 0; key < 26; key++) {
+            RARITY[key] = (float) ((most - Math.log(FREQUENCY[key])) / (most - least));
+        }
+    }
+
+    private WordDifficulty() {
+    }
+
+    /**
+     * Scores a word
+     * @param word to be typed
+     * @return the difficulty of the word, 0 for an empty word
+     */
+    public static float score(CharSequence word) {
+        float score = 0;
+        int previous = NO_KEY;
+        int seen = 0;
+        for (int i = 0; i < word.length(); i++) {
+            int key = keyOf(word.charAt(i));
+            score += keystroke(previous, key, seen);
+            if (key >= 0) {
+                seen |= 1 << key;
+            }
+            previous = key;
+        }
+        return score;
+    }
+
+    /**
+     * Scores a word straight from the bytes of a word list, without decoding it
+     * @param data the UTF-8 word list
+     * @param start offset of the word, which ends at a line break or the end of the data
+     * @return the difficulty of the word
+     */
+    public static float score(ByteBuffer data, int start) {
+        float score = 0;
+        int previous = NO_KEY;
+        int seen = 0;
+        int limit = data.limit();
+        for (int i = start; i < limit; i++) {
+            byte b = data.get(i);
+            if (b == '\n' || b == '\r') {
+                break;
+            }
+            if ((b & 0xC0) == 0x80) {
+                // UTF-8 continuation bytes belong to the character before them
+                continue;
+            }
+            int key = b < 0 ? OTHER_KEY : keyOf((char) b);
+            score += keystroke(previous, key, seen);
+            if (key >= 0) {
+                seen |= 1 << key;
+            }
+            previous = key;
+        }
+        return score;
+    }
+
+    /**
+     * @param c a character of a word
+     * @return the letter key typing it, 0 to 25, or OTHER_KEY
+     */
+    private static int keyOf(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A';
+        }
+        return OTHER_KEY;
+    }
+
+    /**
+     * @param previous the key typed before, NO_KEY at the start of the word
+     * @param key the key typed
+     * @param seen bit mask of the letters typed before in the word
+     * @return the cost of the keystroke
+     */
+    private static float keystroke(int previous, int key, int seen) {
+        if (key < 0) {
+            return 1 + RARITY_WEIGHT;
+        }
+        float cost = 1 + RARITY_WEIGHT * RARITY[key];
+        if ((seen & (1 << key)) != 0) {
+            cost += REPEAT_WEIGHT;
+        }
+        if (previous >= 0) {
+            float dx = KEY_X[key] - KEY_X[previous];
+            float dy = KEY_Y[key] - KEY_Y[previous];
+            cost += TRAVEL_WEIGHT * (float) Math.sqrt(dx * dx + dy * dy);
+            if (LEFT_HAND[key] == LEFT_HAND[previous]) {
+                cost += SAME_HAND_WEIGHT;
+            }
+        }
+        return cost;
+    }
+}
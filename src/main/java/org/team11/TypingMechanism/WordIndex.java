@@ -0,0 +1,177 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/18/2026
+ * Time: 1:10 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.TypingMechanism
+ * Class: WordIndex
+ *
+ * Description:
+ * An index over the raw bytes of a word list. For every word length it keeps a primitive
+ * int array with the byte offsets where the words of that length start, so loading the
+ * dictionary allocates no String per word. A word is decoded from the buffer only when it
+ * is drawn. The buffer is usually a read-only memory-mapped file. An index read from a
+ * precompiled dictionary pack may also carry a difficulty score for every word.
+ * The index is immutable once built: the buffer is only read with absolute gets, through a
+ * read-only view, so one index is safely shared by every session and thread.
+ * The words sorted by difficulty, a DifficultyIndex, are built once on first use and shared too.
+ * **************************************
+ */
+package org.team11.TypingMechanism;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class WordIndex {
+
+    // The raw UTF-8 words, one per line
+    private final ByteBuffer data;
+
+    // Start offsets of the words in data, indexed by word length
+    private final int[][] startsByLength;
+
+    // Difficulty scores of the words, in the same layout as startsByLength, or null
+    private final float[][] scoresByLength;
+
+    // Total number of words
+    private final int size;
+
+    // The words sorted by difficulty, built on first use
+    private volatile DifficultyIndex byDifficulty;
+
+    /**
+     * Creates the index
+     * @param data the raw UTF-8 words
+     * @param startsByLength start offsets of the words, indexed by word length
+     */
+    WordIndex(ByteBuffer data, int[][] startsByLength) {
+        this(data, startsByLength, null);
+    }
+
+    /**
+     * Creates the index with difficulty scores
+     * @param data the raw UTF-8 words
+     * @param startsByLength start offsets of the words, indexed by word length
+     * @param scoresByLength scores of the words, indexed by word length, or null
+     */
+    WordIndex(ByteBuffer data, int[][] startsByLength, float[][] scoresByLength) {
+        this.data = data.asReadOnlyBuffer();
+        this.startsByLength = startsByLength;
+        this.scoresByLength = scoresByLength;
+        int total = 0;
+        for (int[] starts : startsByLength) {
+            total += starts.length;
+        }
+        this.size = total;
+    }
+
+    /**
+     * @param length of the words
+     * @return the number of words with that length
+     */
+    public int count(int length) {
+        if (length < 0 || length >= startsByLength.length) {
+            return 0;
+        }
+        return startsByLength[length].length;
+    }
+
+    /**
+     * @return the longest word length in the index, 0 if it is empty
+     */
+    public int getMaxLength() {
+        return startsByLength.length - 1;
+    }
+
+    /**
+     * @return the total number of words
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if the index carries difficulty scores
+     */
+    public boolean hasScores() {
+        return scoresByLength != null;
+    }
+
+    /**
+     * @param length of the word
+     * @param slot position of the word among the words of that length
+     * @return the difficulty score of the word, NaN if the index has no scores
+     */
+    public float getScore(int length, int slot) {
+        return scoresByLength == null ? Float.NaN : scoresByLength[length][slot];
+    }
+
+    /**
+     * Sorts the words by difficulty, the first call scores every word in parallel
+     * @return the words sorted by difficulty
+     */
+    public DifficultyIndex byDifficulty() {
+        DifficultyIndex index = byDifficulty;
+        if (index == null) {
+            synchronized (this) {
+                index = byDifficulty;
+                if (index == null) {
+                    index = DifficultyIndex.build(this);
+                    byDifficulty = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Decodes one word
+     * @param length of the word
+     * @param slot position of the word among the words of that length
+     * @return the word
+     */
+    public String wordAt(int length, int slot) {
+        return wordAt(startsByLength[length][slot]);
+    }
+
+    /**
+     * @param length of the words
+     * @return the start offsets of the words with that length, not to be modified
+     */
+    int[] starts(int length) {
+        return startsByLength[length];
+    }
+
+    /**
+     * @return the raw UTF-8 words, read-only
+     */
+    ByteBuffer data() {
+        return data;
+    }
+
+    /**
+     * Decodes the word starting at an offset
+     * @param start offset of the word in the data
+     * @return the word
+     */
+    String wordAt(int start) {
+        int end = start;
+        int limit = data.limit();
+        while (end < limit) {
+            byte b = data.get(end);
+            if (b == '\n' || b == '\r') {
+                break;
+            }
+            end++;
+        }
+        byte[] bytes = new byte[end - start];
+        data.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
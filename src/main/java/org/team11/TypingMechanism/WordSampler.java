@@ -0,0 +1,238 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/18/2026
+ * Time: 11:20 AM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.TypingMechanism
+ * Class: WordSampler
+ *
+ * Description:
+ * Draws slots 0..size-1 of one word-length bucket in random order without replacement.
+ * Each draw is one step of a lazy Fisher-Yates shuffle, so it costs O(1) no matter how large
+ * the bucket is. The permutation is never stored in full: a position that was never swapped
+ * holds its own slot, and only the positions that were swapped are kept, in a sparse map.
+ * A second sparse map keeps the position of every slot that moved, to tell whether a slot was
+ * drawn in the current pass. So a sampler costs memory in the number of words drawn, not in
+ * the size of the bucket, and starting a new pass only clears what the last pass touched.
+ * **************************************
+ */
+package org.team11.TypingMechanism;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class WordSampler {
+
+    // Slot at each swapped position of the permutation, the others hold their own slot
+    private final SwapMap order = new SwapMap();
+
+    // Position of each slot that was moved, the others are at their own position
+    private final SwapMap positions = new SwapMap();
+
+    // Number of slots in the bucket
+    private final int size;
+
+    // Source of randomness
+    private final Random rand;
+
+    // Number of slots drawn in the current pass
+    private int cursor;
+
+    // Number of completed passes over the bucket
+    private int passes;
+
+    /**
+     * Creates a sampler over a bucket
+     * @param size number of words in the bucket
+     * @param rand source of randomness
+     */
+    public WordSampler(int size, Random rand) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("A sampler needs at least one slot: " + size);
+        }
+        this.size = size;
+        this.rand = rand;
+    }
+
+    /**
+     * Draws the next slot, starting a new pass once every slot has been drawn
+     * @return a slot that was not drawn yet in the current pass
+     */
+    public int next() {
+        if (cursor == size) {
+            refill();
+        }
+        int pick = cursor + rand.nextInt(size - cursor);
+        int slot = order.get(pick);
+        if (pick != cursor) {
+            // Swap the slots at the cursor and at the pick
+            int moved = order.get(cursor);
+            order.put(pick, moved);
+            positions.put(moved, pick);
+        }
+        // The position at the cursor is never read again in this pass, only the slot's is
+        positions.put(slot, cursor);
+        cursor++;
+        return slot;
+    }
+
+    /**
+     * Starts a new pass, every slot can be drawn again
+     */
+    public void refill() {
+        order.clear();
+        positions.clear();
+        cursor = 0;
+        passes++;
+    }
+
+    /**
+     * @param slot in the bucket
+     * @return true if the slot was drawn in the current pass
+     */
+    public boolean isUsed(int slot) {
+        return positions.get(slot) < cursor;
+    }
+
+    /**
+     * @return number of slots that can still be drawn before the bucket is refilled
+     */
+    public int remaining() {
+        return size - cursor;
+    }
+
+    /**
+     * @return number of slots in the bucket
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return number of times the bucket ran out and was refilled
+     */
+    public int getPasses() {
+        return passes;
+    }
+
+    /**
+     * @return number of entries kept for the current pass, at most three per slot drawn
+     */
+    int getFootprint() {
+        return order.size() + positions.size();
+    }
+
+    /**
+     * A map from int to int with open addressing in primitive arrays, a missing key maps to
+     * itself. Keys are never removed, only cleared all at once.
+     */
+    static class SwapMap {
+
+        // Marks an empty entry, keys are never negative
+        private static final int EMPTY = -1;
+
+        // The keys and their values, the capacity is a power of two
+        private int[] keys = emptyKeys(8);
+        private int[] values = new int[8];
+
+        // Number of keys
+        private int count;
+
+        /**
+         * @param key not negative
+         * @return the value of the key, the key itself if it has none
+         */
+        int get(int key) {
+            int mask = keys.length - 1;
+            for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+                if (keys[i] == EMPTY) {
+                    return key;
+                }
+            }
+        }
+
+        /**
+         * @param key not negative
+         * @param value of the key
+         */
+        void put(int key, int value) {
+            int mask = keys.length - 1;
+            int i = hash(key) & mask;
+            while (keys[i] != EMPTY && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (keys[i] == EMPTY) {
+                // Keep the table at most half full
+                if (2 * (count + 1) > keys.length) {
+                    grow();
+                    put(key, value);
+                    return;
+                }
+                keys[i] = key;
+                count++;
+            }
+            values[i] = value;
+        }
+
+        /**
+         * Removes every key, in time proportional to the keys added since the last clear
+         */
+        void clear() {
+            if (count > 0) {
+                Arrays.fill(keys, EMPTY);
+                count = 0;
+            }
+        }
+
+        /**
+         * @return the number of keys
+         */
+        int size() {
+            return count;
+        }
+
+        /**
+         * Doubles the capacity and adds the keys again
+         */
+        private void grow() {
+            int[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = emptyKeys(oldKeys.length * 2);
+            values = new int[oldKeys.length * 2];
+            count = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        /**
+         * @param capacity of the table
+         * @return keys with every entry empty
+         */
+        private static int[] emptyKeys(int capacity) {
+            int[] keys = new int[capacity];
+            Arrays.fill(keys, EMPTY);
+            return keys;
+        }
+
+        /**
+         * @param key a key
+         * @return the key with its bits mixed, so consecutive keys spread over the table
+         */
+        private static int hash(int key) {
+            int h = key * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
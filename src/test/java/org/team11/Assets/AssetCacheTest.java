@@ -0,0 +1,108 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/18/2026
+ * Time: 7:55 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Assets;
+ * Class: AssetCacheTest
+ *
+ * Description: A test for the AssetCache class
+ * **************************************
+ */
+package org.team11.Assets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssetCacheTest {
+
+    private AssetCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new AssetCache();
+    }
+
+    @Test
+    void testBuildsOnce() {
+        AtomicInteger builds = new AtomicInteger();
+        Object first = cache.get("asset", () -> {
+            builds.incrementAndGet();
+            return new Object();
+        });
+        Object second = cache.get("asset", Object::new);
+        assertSame(first, second);
+        assertEquals(1, builds.get());
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testFactoryMayUseTheCache() {
+        // Enough keys that some share a bin of the map
+        String sprite = cache.get("sprite", () -> {
+            StringBuilder parts = new StringBuilder();
+            for (int i = 0; i < 64; i++) {
+                parts.append(cache.get("part" + i, () -> "p"));
+            }
+            return parts.toString();
+        });
+        assertEquals("p".repeat(64), sprite);
+        assertEquals(65, cache.size());
+    }
+
+    @Test
+    void testConcurrentCallersWaitForOneBuild() throws InterruptedException {
+        AtomicInteger builds = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Object[] built = new Object[1];
+        Thread builder = new Thread(() -> built[0] = cache.get("slow", () -> {
+            builds.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new Object();
+        }));
+        builder.start();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Other assets are not held up by the slow one
+        assertEquals("fast", cache.get("fast", () -> "fast"));
+
+        Object[] waited = new Object[1];
+        Thread waiter = new Thread(() -> waited[0] = cache.get("slow", Object::new));
+        waiter.start();
+        release.countDown();
+        builder.join(5000);
+        waiter.join(5000);
+        assertEquals(1, builds.get());
+        assertNotNull(built[0]);
+        assertSame(built[0], waited[0]);
+    }
+
+    @Test
+    void testFailedBuildIsNotCached() {
+        assertThrows(IllegalStateException.class, () -> cache.get("broken", () -> {
+            throw new IllegalStateException("decode failed");
+        }));
+        assertEquals("fixed", cache.get("broken", () -> "fixed"));
+        assertEquals(1, cache.size());
+    }
+}
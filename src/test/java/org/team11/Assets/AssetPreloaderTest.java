@@ -0,0 +1,81 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/23/2026
+ * Time: 11:00 AM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Assets
+ * Class: AssetPreloaderTest
+ *
+ * Description: Tests loading assets in parallel in the background
+ * **************************************
+ */
+package org.team11.Assets;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssetPreloaderTest {
+
+    @Test
+    void testLoadsInParallelAndReportsProgress() throws Exception {
+        AssetCache cache = new AssetCache();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        List<Integer> progress = new CopyOnWriteArrayList<>();
+        // Both tasks must run at the same time to get past the latch
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        AssetPreloader preloader = new AssetPreloader();
+        for (String name : new String[]{"first", "second"}) {
+            preloader.add(name, () -> cache.get(name, () -> {
+                threads.add(Thread.currentThread().getName());
+                bothStarted.countDown();
+                try {
+                    assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return name.toUpperCase();
+            }));
+        }
+        preloader.start(2, (done, total) -> progress.add(done * 10 + total)).get(5, TimeUnit.SECONDS);
+
+        assertTrue(preloader.isDone());
+        assertEquals(List.of(12, 22), progress.stream().sorted().toList());
+        assertEquals(2, threads.size());
+        assertTrue(threads.stream().allMatch(name -> name.startsWith(AssetPreloader.THREAD_NAME)));
+        assertEquals("FIRST", cache.get("first", () -> "rebuilt"));
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    void testFailedAssetIsSkipped() throws Exception {
+        AssetPreloader preloader = new AssetPreloader();
+        preloader.add("broken", () -> {
+            throw new IllegalArgumentException("missing");
+        });
+        preloader.add("fine", () -> { });
+        List<Integer> progress = new CopyOnWriteArrayList<>();
+        preloader.start(1, (done, total) -> progress.add(done)).get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(1, 2), progress);
+        assertThrows(IllegalStateException.class, () -> preloader.add("late", () -> { }));
+    }
+
+    @Test
+    void testNothingToLoad() {
+        assertTrue(new AssetPreloader().start((done, total) -> fail()).isDone());
+    }
+}
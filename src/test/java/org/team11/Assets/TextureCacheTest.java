@@ -0,0 +1,113 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/23/2026
+ * Time: 5:00 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Assets
+ * Class: TextureCacheTest
+ *
+ * Description: Tests scaling the background frames and keeping them in cache files
+ * **************************************
+ */
+package org.team11.Assets;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextureCacheTest {
+
+    private static final String FRAME = "/animation/background1.png";
+
+    @Test
+    void testAreaAverage() {
+        // A black and white checkerboard averages to grey
+        int black = 0xFF000000;
+        int white = 0xFFFFFFFF;
+        int[] checkerboard = {
+                black, white, black, white,
+                white, black, white, black,
+                black, white, black, white,
+                white, black, white, black};
+        int[] scaled = TextureCache.downscale(checkerboard, 4, 4, 2, 2);
+        for (int pixel : scaled) {
+            assertEquals(0xFF808080, pixel);
+        }
+    }
+
+    @Test
+    void testTransparentPixelsDoNotDarken() {
+        int[] pixels = {0xFFFF0000, 0x00000000};
+        int[] scaled = TextureCache.downscale(pixels, 2, 1, 1, 1);
+        // Half covered by opaque red, premultiplied
+        assertEquals(0x80800000, scaled[0]);
+    }
+
+    @Test
+    void testFractionalCoverage() {
+        int[] pixels = {0xFF000000, 0xFF000000, 0xFFFFFFFF};
+        int[] scaled = TextureCache.downscale(pixels, 3, 1, 2, 1);
+        assertEquals(0xFF000000, scaled[0]);
+        // One third black and two thirds white
+        assertEquals(0xFFAAAAAA, scaled[1]);
+    }
+
+    @Test
+    void testScaledOnceThenMapped(@TempDir Path dir) throws IOException {
+        TextureCache cache = new TextureCache(dir);
+        Texture built = cache.load(FRAME, 80, 60);
+        assertEquals(80, built.getWidth());
+        assertEquals(60, built.getHeight());
+        assertEquals(1, cache.getBuilds());
+        assertTrue(Files.isRegularFile(cache.fileFor(FRAME, 80, 60)));
+
+        // A later launch maps the file
+        TextureCache relaunched = new TextureCache(dir);
+        Texture mapped = relaunched.load(FRAME, 80, 60);
+        assertEquals(0, relaunched.getBuilds());
+        assertEquals(1, relaunched.getHits());
+        assertEquals(built.getArgb(40, 30), mapped.getArgb(40, 30));
+        assertEquals(mapped.getPixels().remaining(), 80 * 60);
+
+        // A new size is scaled again
+        relaunched.load(FRAME, 40, 30);
+        assertEquals(1, relaunched.getBuilds());
+    }
+
+    @Test
+    void testChangedSourceIsScaledAgain(@TempDir Path dir) throws IOException {
+        TextureCache cache = new TextureCache(dir);
+        cache.load(FRAME, 16, 12);
+
+        // Pretend the file was built from another image
+        try (FileChannel channel = FileChannel.open(cache.fileFor(FRAME, 16, 12), StandardOpenOption.WRITE)) {
+            ByteBuffer crc = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.nativeOrder()).putLong(0, 42);
+            channel.write(crc, 16);
+        }
+        cache.load(FRAME, 16, 12);
+        assertEquals(2, cache.getBuilds());
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    void testMissingImage(@TempDir Path dir) {
+        TextureCache cache = new TextureCache(dir);
+        assertThrows(IOException.class, () -> cache.load("/animation/missing.png", 10, 10));
+        assertThrows(IllegalArgumentException.class, () -> cache.load(FRAME, 0, 10));
+    }
+}
@@ -29,6 +29,10 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.team11.Ghosts.Ghost;
+import org.team11.Metrics.GameMetrics;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -140,6 +144,56 @@ class KeyFrenzyGameControllerTest {
     }
 
 
+    @Test
+    void testGameOverClearsActiveGhosts() throws Exception {
+        // Run on the thread of the game loop, as the engine requires
+        CompletableFuture<long[]> counts = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                GameMetrics metrics = GameMetrics.getShared();
+                long before = metrics.getActiveGhostCount();
+                KeyFrenzyGameController game = new KeyFrenzyGameController("Team 11");
+                game.getEngine().spawn("boo", 0, 0);
+                game.getEngine().spawn("ghost", 0, 0);
+                long playing = metrics.getActiveGhostCount();
+                game.getEngine().end();
+                counts.complete(new long[]{before, playing, metrics.getActiveGhostCount()});
+            } catch (Throwable e) {
+                counts.completeExceptionally(e);
+            }
+        });
+        long[] result = counts.get(5, TimeUnit.SECONDS);
+        assertEquals(result[0] + 2, result[1]);
+        assertEquals(result[0], result[2], "The ghosts left at game over are no longer active");
+    }
+
+    @Test
+    void testTypedWordTracesOneKill() throws Exception {
+        // Type on the thread of the game loop, as the key events do
+        CompletableFuture<Object[]> typed = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                KeyFrenzyGameController game = new KeyFrenzyGameController("Team 11");
+                game.getEngine().spawn("boo", 0, 0);
+                game.getEngine().spawn("bob", 0, 0);
+                for (char c : "boo".toCharArray()) {
+                    game.getUserTypeBox().appendText(String.valueOf(c));
+                }
+                typed.complete(new Object[]{game.getKillTracer().getKeyToMatch().getCount(),
+                        game.getKillTracer().getMatchToDestroy().getCount(), game.getUserTypeBox().getText(),
+                        game.getScore(), game.getEngine().matchedLength(game.getEngine().ghostAt(0))});
+            } catch (Throwable e) {
+                typed.completeExceptionally(e);
+            }
+        });
+        Object[] result = typed.get(5, TimeUnit.SECONDS);
+        assertEquals(1L, result[0], "Exactly one kill is traced");
+        assertEquals(1L, result[1]);
+        assertEquals("", result[2], "The kill clears the text box");
+        assertEquals(10, result[3]);
+        assertEquals(0, result[4], "The typed text is cleared in the engine too");
+    }
+
     @Test
     void getRoot() {
         VBox root = gameController.getRoot();
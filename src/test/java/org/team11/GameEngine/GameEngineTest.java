@@ -0,0 +1,283 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/19/2026
+ * Time: 3:10 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.GameEngine
+ * Class: GameEngineTest
+ *
+ * Description: Tests the rules of the game without JavaFX, on a manual clock
+ * **************************************
+ */
+package org.team11.GameEngine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.team11.TypingMechanism.WordsSetting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEngineTest {
+
+    private ManualClock clock;
+
+    private GameEngine engine;
+
+    private List<String> events;
+
+    private int wordCount;
+
+    @BeforeEach
+    void setUp() {
+        clock = new ManualClock();
+        events = new ArrayList<>();
+        // Words "w0", "w1", ... so every ghost can be told apart
+        engine = new GameEngine(clock, level -> "w" + wordCount++, new Random(11), 750, 570,
+                new GameListener() {
+                    public void ghostSpawned(GhostState ghost, double x, double y) {
+                        events.add("spawn " + ghost.getWord());
+                    }
+
+                    public void ghostKilled(GhostState ghost) {
+                        events.add("kill " + ghost.getWord());
+                    }
+
+                    public void ghostExpired(GhostState ghost) {
+                        events.add("expire " + ghost.getWord());
+                    }
+
+                    public void levelChanged(int level) {
+                        events.add("level " + level);
+                    }
+
+                    public void livesChanged(int lives) {
+                        events.add("lives " + lives);
+                    }
+
+                    public void gameOver() {
+                        events.add("over");
+                    }
+                });
+    }
+
+    /**
+     * Updates the engine over a stretch of time, one frame at a time
+     * @param millis time to play
+     */
+    private void play(long millis) {
+        engine.update();
+        for (long t = 0; t < millis; t += 16) {
+            clock.advanceMillis(16);
+            engine.update();
+        }
+    }
+
+    @Test
+    void testFixedTimestep() {
+        engine.update();
+        clock.advance(GameEngine.STEP_NANOS * 3 + 1);
+        assertEquals(3, engine.update());
+        clock.advance(GameEngine.STEP_NANOS - 1);
+        assertEquals(1, engine.update());
+        assertEquals(0, engine.update());
+    }
+
+    @Test
+    void testSpawnsPairsOnSchedule() {
+        play(100);
+        assertEquals(List.of("spawn w0", "spawn w1"), events);
+        assertEquals(2, engine.getGhostCount());
+
+        play(WordsSetting.WORD_DELAY);
+        assertEquals(4, engine.getGhostCount());
+    }
+
+    @Test
+    void testSubmitKillsAndScores() {
+        play(100);
+        assertFalse(engine.submit("nothing"));
+        assertTrue(engine.submit(" W1 "));
+        assertEquals(10, engine.getScore());
+        assertEquals(1, engine.getGhostCount());
+        assertTrue(events.contains("kill w1"));
+    }
+
+    @Test
+    void testTypingKillsOnExactMatch() {
+        play(100);
+        assertFalse(engine.type('w'));
+        assertEquals(1, engine.matchedLength(engine.ghostAt(1)));
+        assertTrue(engine.type('0'));
+        assertEquals(10, engine.getScore());
+        assertEquals("w1", engine.ghostAt(0).getWord());
+        assertEquals(0, engine.matchedLength(engine.ghostAt(0)), "w0 is typed until the text is cleared");
+
+        engine.resetTyping();
+        assertFalse(engine.type('w'));
+        assertEquals(1, engine.matchedLength(engine.ghostAt(0)));
+    }
+
+    @Test
+    void testExpiryTakesLives() {
+        play(WordsSetting.WORD_DURATION + 100);
+        assertTrue(events.containsAll(List.of("expire w0", "expire w1", "lives 2", "lives 1")));
+        assertEquals(1, engine.getLives());
+        assertFalse(engine.isOver());
+    }
+
+    @Test
+    void testOutOfLivesEndsTheGame() {
+        play(WordsSetting.WORD_DELAY + WordsSetting.WORD_DURATION + 100);
+        assertEquals(0, engine.getLives());
+        assertTrue(engine.isOver());
+        assertEquals(1, events.stream().filter("over"::equals).count());
+        assertEquals(0, engine.update());
+    }
+
+    @Test
+    void testLevelUpAndMaxLevel() {
+        engine.setScore(80);
+        engine.updateLevel();
+        assertEquals(2, engine.getLevel());
+        assertTrue(events.contains("level 2"));
+
+        engine.setLevel(GameEngine.MAX_LEVEL);
+        engine.updateLevel();
+        assertTrue(engine.isOver());
+    }
+
+    @Test
+    void testSessionLength() {
+        engine.update();
+        long steps = WordsSetting.GAME_LENGTH * 1_000_000L / GameEngine.STEP_NANOS + 1;
+        for (long i = 0; i < steps && !engine.isOver(); i++) {
+            // Keep the player alive so only the session timer ends the game
+            engine.setLives(GameEngine.START_LIVES);
+            engine.step();
+        }
+        assertTrue(engine.isOver());
+        assertTrue(engine.getElapsedMillis() >= WordsSetting.GAME_LENGTH);
+    }
+
+    @Test
+    void testPauseSkipsTime() {
+        play(100);
+        engine.pause();
+        clock.advanceMillis(60_000);
+        assertEquals(0, engine.update());
+        engine.resume();
+        assertEquals(0, engine.update());
+        assertEquals(2, engine.getGhostCount());
+        assertEquals(GameEngine.START_LIVES, engine.getLives());
+    }
+
+    @Test
+    void testNoKillsWhilePaused() {
+        play(100);
+        engine.pause();
+        assertFalse(engine.submit("w0"));
+        assertFalse(engine.type('w'));
+        assertFalse(engine.type('1'));
+        assertEquals(0, engine.getScore());
+        assertEquals(2, engine.getGhostCount());
+
+        engine.resume();
+        assertTrue(engine.submit("w0"));
+        assertEquals(GameEngine.WORD_POINTS, engine.getScore());
+    }
+
+    @Test
+    void testCommandsApplyInOrderOnUpdate() {
+        play(100);
+        engine.post(e -> e.type('w'));
+        engine.post(e -> e.type('1'));
+        engine.post(e -> e.submit("w0"));
+        assertEquals(0, engine.getScore(), "Commands wait for the next update");
+
+        engine.update();
+        assertEquals(20, engine.getScore());
+        assertEquals(List.of("kill w1", "kill w0"), events.subList(2, 4));
+    }
+
+    @Test
+    void testPostFromManyThreads() throws InterruptedException {
+        int threads = 4;
+        int perThread = 1000;
+        int[] applied = new int[1];
+        Thread[] producers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            producers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    engine.post(e -> applied[0]++);
+                }
+            });
+            producers[t].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        assertEquals(threads * perThread, engine.drainCommands());
+        assertEquals(threads * perThread, applied[0]);
+        assertEquals(0, engine.drainCommands());
+    }
+
+    @Test
+    void testPauseCommandAppliesWhilePaused() {
+        play(100);
+        engine.post(GameEngine::pause);
+        engine.update();
+        assertTrue(engine.isPaused());
+        engine.post(GameEngine::resume);
+        engine.update();
+        assertFalse(engine.isPaused());
+    }
+
+    @Test
+    void testTypoToleranceScoresNearHits() {
+        play(100);
+        assertFalse(engine.submit("x1"), "Typos are not accepted by default");
+        assertEquals(-1, engine.getLastDistance());
+
+        engine.setTypoTolerance(1);
+        assertFalse(engine.submit("w"), "Two-letter words must be typed exactly");
+        engine.spawn("ghost", 0, 0);
+        assertTrue(engine.submit("ghst"));
+        assertEquals(1, engine.getLastDistance());
+        assertEquals(GameEngine.NEAR_POINTS, engine.getScore());
+        assertTrue(events.contains("kill ghost"));
+
+        assertTrue(engine.submit("w1"));
+        assertEquals(0, engine.getLastDistance());
+        assertEquals(GameEngine.NEAR_POINTS + GameEngine.WORD_POINTS, engine.getScore());
+        assertEquals(1, engine.getGhostCount());
+    }
+
+    @Test
+    void testNearHitsCrossLevels() {
+        play(100);
+        engine.setTypoTolerance(1);
+        engine.setScore(GameEngine.LEVEL_SCORE - 2);
+        engine.spawn("ghost", 0, 0);
+        assertTrue(engine.submit("ghosts"));
+        assertEquals(2, engine.getLevel());
+        assertTrue(events.contains("level 2"));
+    }
+
+    @Test
+    void testRetypeStopsAtKill() {
+        play(100);
+        assertTrue(engine.retype(" w1 w0"));
+        assertEquals(10, engine.getScore());
+        assertEquals(1, engine.getGhostCount());
+    }
+}
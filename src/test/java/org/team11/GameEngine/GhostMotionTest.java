@@ -0,0 +1,93 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/19/2026
+ * Time: 9:40 AM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.GameEngine
+ * Class: GhostMotionTest
+ *
+ * Description: Tests the struct-of-arrays motion of the ghosts
+ * **************************************
+ */
+package org.team11.GameEngine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GhostMotionTest {
+
+    private GhostMotion motion;
+
+    @BeforeEach
+    void setUp() {
+        motion = new GhostMotion(4);
+    }
+
+    @Test
+    void testMovesAtConstantSpeed() {
+        int handle = motion.add(0, 0, 100, 50, 2.0);
+        assertEquals(0, motion.advance(0.5));
+        assertEquals(25, motion.getX(handle), 1e-9);
+        assertEquals(12.5, motion.getY(handle), 1e-9);
+        assertEquals(0, motion.advance(1.0));
+        assertEquals(75, motion.getX(handle), 1e-9);
+    }
+
+    @Test
+    void testArrivalIsReportedAndRemoved() {
+        int slow = motion.add(0, 0, 10, 0, 3.0);
+        int fast = motion.add(0, 0, 10, 0, 1.0);
+
+        assertEquals(1, motion.advance(1.5));
+        assertEquals(fast, motion.getArrived()[0]);
+        assertEquals(1, motion.size());
+        assertFalse(motion.remove(fast));
+        assertEquals(5, motion.getX(slow), 1e-9);
+
+        assertEquals(1, motion.advance(2.0));
+        assertEquals(slow, motion.getArrived()[0]);
+        assertEquals(0, motion.size());
+    }
+
+    @Test
+    void testHandlesSurviveRemovalAndAreReused() {
+        int a = motion.add(0, 0, 10, 0, 1.0);
+        int b = motion.add(0, 0, 0, 10, 1.0);
+        int c = motion.add(0, 0, -10, 0, 1.0);
+
+        // Removing the first ghost moves the last one into its place
+        assertTrue(motion.remove(a));
+        motion.advance(0.5);
+        assertEquals(5, motion.getY(b), 1e-9);
+        assertEquals(-5, motion.getX(c), 1e-9);
+
+        assertEquals(a, motion.add(0, 0, 1, 1, 1.0));
+        assertEquals(3, motion.size());
+    }
+
+    @Test
+    void testGrowsPastCapacity() {
+        int[] handles = new int[20];
+        for (int i = 0; i < handles.length; i++) {
+            handles[i] = motion.add(i, 0, i, 100, 1.0);
+        }
+        motion.advance(0.25);
+        for (int i = 0; i < handles.length; i++) {
+            assertEquals(i, motion.getX(handles[i]), 1e-9);
+            assertEquals(25, motion.getY(handles[i]), 1e-9);
+        }
+        assertEquals(20, motion.advance(1.0));
+
+        motion.add(0, 0, 1, 1, 1.0);
+        motion.clear();
+        assertEquals(0, motion.size());
+    }
+}
@@ -0,0 +1,116 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/24/2026
+ * Time: 11:00 AM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.GameEngine
+ * Class: WordPrefetcherTest
+ *
+ * Description: Tests the background word prefetch and its ring buffers
+ * **************************************
+ */
+package org.team11.GameEngine;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordPrefetcherTest {
+
+    private WordPrefetcher prefetcher;
+
+    @AfterEach
+    void tearDown() {
+        if (prefetcher != null) {
+            prefetcher.stop();
+        }
+    }
+
+    /**
+     * Waits for the worker to fill a ring
+     * @param level of the ring
+     * @param words expected in the ring
+     */
+    private void awaitReady(int level, int words) throws InterruptedException {
+        for (int i = 0; i < 500 && prefetcher.ready(level) < words; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(words, prefetcher.ready(level));
+    }
+
+    @Test
+    void testRingIsFirstInFirstOut() {
+        WordPrefetcher.WordRing ring = new WordPrefetcher.WordRing(3);
+        assertEquals(4, ring.capacity());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ring.offer("w" + i));
+        }
+        assertFalse(ring.offer("full"));
+        assertEquals("w0", ring.poll());
+        assertTrue(ring.offer("w4"));
+        assertEquals(List.of("w1", "w2", "w3", "w4"),
+                List.of(ring.poll(), ring.poll(), ring.poll(), ring.poll()));
+        assertNull(ring.poll());
+        assertEquals(0, ring.size());
+    }
+
+    @Test
+    void testWordsComeFromTheWorker() throws InterruptedException {
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger drawn = new AtomicInteger();
+        prefetcher = new WordPrefetcher(level -> {
+            threads.add(Thread.currentThread().getName());
+            return "Word" + drawn.incrementAndGet();
+        }, level -> "fallback", 8);
+        prefetcher.prepare(1);
+        prefetcher.start();
+        awaitReady(1, 8);
+
+        assertEquals("word1", prefetcher.nextWord(1), "Words are normalized by the worker");
+        assertEquals("word2", prefetcher.nextWord(1));
+        assertEquals(0, prefetcher.getMisses());
+        synchronized (threads) {
+            assertTrue(threads.stream().allMatch(WordPrefetcher.THREAD_NAME::equals));
+        }
+
+        // The worker tops the ring up again once it is half empty
+        prefetcher.nextWord(1);
+        prefetcher.nextWord(1);
+        awaitReady(1, 8);
+        assertEquals(0, prefetcher.ready(2), "Levels are only filled once wanted");
+    }
+
+    @Test
+    void testEmptyRingFallsBack() {
+        prefetcher = new WordPrefetcher(level -> "prefetched", level -> "fallback", 8);
+        assertEquals("fallback", prefetcher.nextWord(1));
+        assertEquals(1, prefetcher.getMisses());
+        assertEquals("fallback", prefetcher.nextWord(GameEngine.MAX_LEVEL + 1));
+    }
+
+    @Test
+    void testEngineWarmsUpTheNextLevel() throws InterruptedException {
+        prefetcher = new WordPrefetcher(level -> "l" + level, level -> "fallback", 4);
+        prefetcher.start();
+        GameEngine engine = new GameEngine(new ManualClock(), prefetcher, new Random(11), 750, 570,
+                new GameListener() { });
+        engine.setScore(GameEngine.LEVEL_SCORE - GameEngine.PREPARE_POINTS - GameEngine.WORD_POINTS);
+        engine.spawn("w", 0, 0);
+        assertTrue(engine.submit("w"));
+        awaitReady(2, 4);
+        assertEquals("l2", prefetcher.nextWord(2));
+    }
+}
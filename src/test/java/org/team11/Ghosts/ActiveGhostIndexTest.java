@@ -0,0 +1,67 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/18/2026
+ * Time: 4:10 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Ghost;
+ * Class: ActiveGhostIndexTest
+ *
+ * Description: A test for the active ghost index
+ * **************************************
+ */
+package org.team11.Ghosts;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActiveGhostIndexTest {
+
+    private ActiveGhostIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ActiveGhostIndex<>();
+    }
+
+    @Test
+    void testNormalize() {
+        assertEquals("hello", ActiveGhostIndex.normalize("  HeLLo "));
+    }
+
+    @Test
+    void testPollIgnoresCase() {
+        index.add(ActiveGhostIndex.normalize("Word"), "ghost1");
+        assertEquals("ghost1", index.poll(ActiveGhostIndex.normalize("WORD")));
+        assertNull(index.poll("word"));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void testDuplicateWordsOldestFirst() {
+        index.add("the", "first");
+        index.add("the", "second");
+        assertEquals(2, index.size());
+        assertEquals("first", index.poll("the"));
+        assertTrue(index.contains("the"));
+        assertEquals("second", index.poll("the"));
+        assertFalse(index.contains("the"));
+    }
+
+    @Test
+    void testRemoveExpiredGhost() {
+        index.add("the", "first");
+        index.add("the", "second");
+        assertTrue(index.remove("the", "second"));
+        assertFalse(index.remove("the", "second"));
+        assertEquals(1, index.size());
+        assertEquals("first", index.poll("the"));
+    }
+}
@@ -17,11 +17,16 @@
  */
 
 package org.team11.Ghosts;
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.team11.GameEngine.GameEngine;
+import org.team11.GameEngine.GameListener;
+import org.team11.GameEngine.GhostState;
+import org.team11.GameEngine.ManualClock;
 
-import java.util.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -30,23 +35,60 @@ class GhostAnimationTest {
 
     private GhostAnimation ghostAnimation;
 
+    private GameEngine engine;
+
+    private List<Ghost> drawn;
+
+    private Ghost ghost;
+
+    private GhostState state;
+
     @BeforeEach
     void setUp() {
-        Timer timer = new Timer();
-        Ghost ghost = new Ghost("team11");
-        this.ghostAnimation = new GhostAnimation(timer, ghost);
+        drawn = new ArrayList<>();
+        GhostRenderer renderer = new GhostRenderer() {
+            public boolean usesNodes() { return false; }
+            public void show(Ghost ghost) { }
+            public void hide(Ghost ghost) { }
+            public void beginFrame() { drawn.clear(); }
+            public void draw(Ghost ghost, double x, double y) { drawn.add(ghost); }
+            public void endFrame() { }
+        };
+        engine = new GameEngine(new ManualClock(), level -> "team11", new Random(11), 750, 570,
+                new GameListener() { });
+        this.ghostAnimation = new GhostAnimation(engine, renderer);
+
+        ghost = new Ghost("team11", false);
+        state = engine.spawn("team11", 0, 0);
+        ghostAnimation.add(state, ghost);
     }
 
-    @AfterEach
-    void tearDown() {
+    @Test
+    void drawsEveryGhost() {
+        ghostAnimation.draw();
+        assertEquals(List.of(ghost), drawn);
     }
 
     @Test
-    void stop() {
+    void removedGhostIsNotDrawn() {
+        assertSame(ghost, ghostAnimation.remove(state));
+        assertNull(ghostAnimation.remove(state));
+        ghostAnimation.draw();
+        assertTrue(drawn.isEmpty());
+    }
 
-        ghostAnimation.start();
+    @Test
+    void frameRecordsLogicAndDrawTime() {
+        ghostAnimation.frame();
+        ghostAnimation.frame();
+        assertEquals(2, ghostAnimation.getStats().getLogicTimes().getCount());
+        assertEquals(2, ghostAnimation.getStats().getDrawTimes().getCount());
+        assertEquals(List.of(ghost), drawn);
+    }
 
+    @Test
+    void stop() {
         ghostAnimation.stop();
-        assertTrue(true, "Animation loop should stop.");
+        assertSame(ghost, ghostAnimation.get(state));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,60 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/18/2026
+ * Time: 9:20 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Ghost;
+ * Class: GhostPoolTest
+ *
+ * Description: A test for the ghost pool
+ * **************************************
+ */
+package org.team11.Ghosts;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GhostPoolTest {
+
+    private GhostPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new GhostPool(2);
+    }
+
+    @Test
+    void testReusesReleasedGhost() {
+        Ghost ghost = pool.acquire("first");
+        pool.release(ghost);
+        assertFalse(ghost.isActive());
+
+        Ghost reused = pool.acquire("Second");
+        assertSame(ghost, reused);
+        assertEquals("Second", reused.getWord());
+        assertEquals("second", reused.getKey());
+        assertEquals(0, reused.getHighlighted());
+        assertEquals(reused.getNode() != null, reused.isActive(), "Active again, unless its node could not be built");
+        assertEquals(1, pool.getCreatedCount());
+    }
+
+    @Test
+    void testCapacityIsBounded() {
+        Ghost a = pool.acquire("a");
+        Ghost b = pool.acquire("b");
+        Ghost c = pool.acquire("c");
+        pool.release(a);
+        pool.release(b);
+        pool.release(c);
+        assertEquals(2, pool.getFreeCount());
+        assertEquals(3, pool.getCreatedCount());
+    }
+}
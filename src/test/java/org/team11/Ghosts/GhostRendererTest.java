@@ -0,0 +1,39 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/19/2026
+ * Time: 11:50 AM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Ghosts
+ * Class: GhostRendererTest
+ *
+ * Description: Tests the selection of the ghost renderer
+ * **************************************
+ */
+package org.team11.Ghosts;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GhostRendererTest {
+
+    @Test
+    void testDefaultsToNodes() {
+        assertEquals(GhostRenderer.Mode.NODE, GhostRenderer.Mode.parse(null));
+        assertEquals(GhostRenderer.Mode.NODE, GhostRenderer.Mode.parse(""));
+        assertEquals(GhostRenderer.Mode.NODE, GhostRenderer.Mode.parse("webgl"));
+    }
+
+    @Test
+    void testSelectsCanvas() {
+        assertEquals(GhostRenderer.Mode.CANVAS, GhostRenderer.Mode.parse("canvas"));
+        assertEquals(GhostRenderer.Mode.CANVAS, GhostRenderer.Mode.parse(" Canvas "));
+        assertEquals(GhostRenderer.Mode.NODE, GhostRenderer.Mode.parse("node"));
+    }
+}
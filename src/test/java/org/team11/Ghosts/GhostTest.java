@@ -60,4 +60,24 @@ public class GhostTest {
         long actualTime = ghost.getCreationTime();
         assertTrue(Math.abs(actualTime - expectedTime) <= 100);
     }
+
+    @Test
+    void highlightWithoutNode() {
+        Ghost drawn = new Ghost("ghost", false);
+        assertNull(drawn.getNode());
+        drawn.highlight(2);
+        assertEquals(2, drawn.getHighlighted());
+        assertEquals("gh", drawn.getTypedPart());
+        assertEquals("ost", drawn.getUntypedPart());
+    }
+
+    @Test
+    void activeUntilReleased() {
+        Ghost drawn = new Ghost("ghost", false);
+        assertTrue(drawn.isActive(), "A ghost without a node is still in the game");
+        drawn.release();
+        assertFalse(drawn.isActive());
+        drawn.reset("frenzy");
+        assertTrue(drawn.isActive());
+    }
 }
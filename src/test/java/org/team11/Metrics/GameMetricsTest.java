@@ -0,0 +1,106 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/22/2026
+ * Time: 10:30 AM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Metrics
+ * Class: GameMetricsTest
+ *
+ * Description: Tests the game metrics and reading them over JMX
+ * **************************************
+ */
+package org.team11.Metrics;
+
+import org.junit.jupiter.api.Test;
+import org.team11.TypingMechanism.DictionaryLoader;
+import org.team11.TypingMechanism.WordDictionary;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameMetricsTest {
+
+    @Test
+    void testGhostCounters() {
+        GameMetrics metrics = new GameMetrics();
+        metrics.ghostSpawned();
+        metrics.ghostSpawned();
+        metrics.ghostSpawned();
+        metrics.ghostKilled();
+        metrics.ghostExpired();
+        assertEquals(3, metrics.getGhostsSpawned());
+        assertEquals(1, metrics.getGhostsKilled());
+        assertEquals(1, metrics.getGhostsExpired());
+        assertEquals(1, metrics.getActiveGhostCount());
+        metrics.ghostsCleared(1);
+        assertEquals(0, metrics.getActiveGhostCount());
+    }
+
+    @Test
+    void testDictionaryDraws() {
+        GameMetrics metrics = GameMetrics.getShared();
+        long draws = metrics.getWordDraws();
+        long retries = metrics.getWordRetries();
+        long exhaustions = metrics.getBucketExhaustions();
+
+        // Two words of two letters and none of three
+        ByteBuffer words = ByteBuffer.wrap("ab\ncd\n".getBytes(StandardCharsets.US_ASCII));
+        WordDictionary dictionary = new WordDictionary(DictionaryLoader.index(words), new Random(1));
+        dictionary.getWord(1);
+        dictionary.getWord(1);
+        dictionary.getWord(2);
+
+        assertEquals(3, metrics.getWordDraws() - draws);
+        assertEquals(1, metrics.getWordRetries() - retries);
+        assertEquals(1, metrics.getBucketExhaustions() - exhaustions);
+    }
+
+    @Test
+    void testGameThreadsAreCounted() throws InterruptedException {
+        GameMetrics metrics = new GameMetrics();
+        int before = metrics.getGameThreadCount();
+        Object lock = new Object();
+        Thread thread = new Thread(() -> {
+            synchronized (lock) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException ignored) {
+                }
+            }
+        }, GameMetrics.THREAD_PREFIX + "Test");
+        thread.start();
+        assertEquals(before + 1, metrics.getGameThreadCount());
+        thread.interrupt();
+        thread.join();
+        assertEquals(before, metrics.getGameThreadCount());
+    }
+
+    @Test
+    void testReadableOverJmx() throws JMException {
+        GameMetrics.register();
+        GameMetrics.register();
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(GameMetrics.OBJECT_NAME);
+            assertEquals(GameMetrics.getShared().getWordDraws(), server.getAttribute(name, "WordDraws"));
+            assertNotNull(server.getAttribute(name, "GameThreadCount"));
+            assertNotNull(server.getAttribute(name, "FrameTimeP99Millis"));
+        } finally {
+            GameMetrics.unregister();
+        }
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(new ObjectName(GameMetrics.OBJECT_NAME)));
+    }
+}
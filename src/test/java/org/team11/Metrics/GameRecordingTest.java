@@ -0,0 +1,71 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/22/2026
+ * Time: 4:00 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Metrics
+ * Class: GameRecordingTest
+ *
+ * Description: Tests that the game events are off by default and recorded when enabled
+ * **************************************
+ */
+package org.team11.Metrics;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.team11.TypingMechanism.WordDictionary;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameRecordingTest {
+
+    @Test
+    void testEventsAreOffByDefault() {
+        assertFalse(new GhostSpawnEvent().shouldCommit());
+        assertFalse(new WordSubmittedEvent().isEnabled());
+    }
+
+    @Test
+    void testRecordingCapturesGameEvents(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("game.jfr");
+        GameRecording.start(file);
+        try {
+            WordDictionary.loadFileIntoMap();
+
+            WordSubmittedEvent event = new WordSubmittedEvent();
+            event.begin();
+            event.word = "frenzy";
+            event.matched = true;
+            event.scanLength = 3;
+            event.commit();
+        } finally {
+            GameRecording.stop();
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        RecordedEvent submitted = events.stream()
+                .filter(e -> e.getEventType().getName().equals("org.team11.WordSubmitted"))
+                .findFirst().orElseThrow();
+        assertEquals("frenzy", submitted.getString("word"));
+        assertTrue(submitted.getBoolean("matched"));
+        assertEquals(3, submitted.getInt("scanLength"));
+
+        RecordedEvent load = events.stream()
+                .filter(e -> e.getEventType().getName().equals("org.team11.DictionaryLoad"))
+                .findFirst().orElseThrow();
+        assertTrue(load.getInt("words") > 0);
+        assertFalse(load.getBoolean("failed"));
+    }
+}
@@ -0,0 +1,99 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/21/2026
+ * Time: 3:00 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Metrics
+ * Class: KillTracerTest
+ *
+ * Description: Tests the steps of a traced kill on a manual clock
+ * **************************************
+ */
+package org.team11.Metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.team11.GameEngine.ManualClock;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KillTracerTest {
+
+    private ManualClock clock;
+
+    private KillTracer tracer;
+
+    @BeforeEach
+    void setUp() {
+        clock = new ManualClock();
+        clock.advanceMillis(1);
+        tracer = new KillTracer(clock);
+    }
+
+    /**
+     * Plays a kill with the given time between its steps
+     */
+    private void kill(long queueMillis, long destroyMillis) {
+        long key = tracer.now();
+        clock.advanceMillis(queueMillis);
+        tracer.keyApplied(key);
+        tracer.matched();
+        clock.advanceMillis(destroyMillis);
+        tracer.destroyed();
+        tracer.keyDone();
+    }
+
+    @Test
+    void testStepsOfAKill() {
+        kill(10, 1);
+        clock.advanceMillis(5);
+        tracer.pulse();
+
+        assertEquals(10_000_000, tracer.getKeyToMatch().getMax());
+        assertEquals(1_000_000, tracer.getMatchToDestroy().getMax());
+        assertEquals(5_000_000, tracer.getDestroyToPulse().getMax());
+        assertEquals(16_000_000, tracer.getKeyToPulse().getMax());
+    }
+
+    @Test
+    void testOnePulseRendersEveryPendingKill() {
+        kill(2, 0);
+        kill(3, 0);
+        tracer.pulse();
+        tracer.pulse();
+        assertEquals(2, tracer.getKeyToPulse().getCount());
+    }
+
+    @Test
+    void testUntracedRemovalsAreIgnored() {
+        // An expired ghost is destroyed without a keystroke
+        tracer.matched();
+        tracer.destroyed();
+        tracer.pulse();
+        assertEquals(0, tracer.getKeyToMatch().getCount());
+        assertEquals(0, tracer.getKeyToPulse().getCount());
+    }
+
+    @Test
+    void testExport(@TempDir Path dir) throws IOException {
+        kill(4, 0);
+        tracer.pulse();
+        Path file = dir.resolve("traces/kill.csv");
+        tracer.export(file);
+        String csv = Files.readString(file);
+        assertTrue(csv.startsWith("step,count,"));
+        assertTrue(csv.contains("key_to_match,1,4000.0,"));
+        assertEquals(5, csv.lines().count());
+    }
+}
@@ -0,0 +1,80 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/21/2026
+ * Time: 11:00 AM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Metrics
+ * Class: LatencyHistogramTest
+ *
+ * Description: Tests the buckets and percentiles of the latency histogram
+ * **************************************
+ */
+package org.team11.Metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(50, histogram.getValueAtPercentile(50));
+        assertEquals(99, histogram.getValueAtPercentile(99));
+        assertEquals(100, histogram.getMax());
+        assertEquals(50.5, histogram.getMean(), 1e-9);
+    }
+
+    @Test
+    void testBucketsCoverEveryValue() {
+        long[] values = {0, 127, 128, 255, 256, 16_666_667, 1L << 40, Long.MAX_VALUE};
+        for (long value : values) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            long highest = LatencyHistogram.highestValueOf(bucket);
+            assertTrue(highest >= value, "bucket of " + value);
+            assertTrue(highest - value <= value / 64, "precision of " + value);
+            if (bucket > 0) {
+                assertTrue(LatencyHistogram.highestValueOf(bucket - 1) < value);
+            }
+        }
+    }
+
+    @Test
+    void testPercentilesOfFrameTimes() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 990; i++) {
+            histogram.record(16_666_667);
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(100_000_000);
+        }
+        assertEquals(16_666_667, histogram.getValueAtPercentile(50), 16_666_667 / 64.0);
+        assertEquals(16_666_667, histogram.getValueAtPercentile(99), 16_666_667 / 64.0);
+        assertEquals(100_000_000, histogram.getValueAtPercentile(99.9), 100_000_000 / 64.0);
+        assertEquals(100_000_000, histogram.getMax());
+    }
+
+    @Test
+    void testEmptyAndReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(99));
+        histogram.record(-5);
+        assertEquals(0, histogram.getMax());
+        histogram.record(42);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getMean());
+    }
+}
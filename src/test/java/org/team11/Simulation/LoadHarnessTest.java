@@ -0,0 +1,76 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/20/2026
+ * Time: 10:40 AM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.Simulation
+ * Class: LoadHarnessTest
+ *
+ * Description: Tests the bot typists and the parallel session harness
+ * **************************************
+ */
+package org.team11.Simulation;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.team11.GameEngine.GameEngine;
+import org.team11.TypingMechanism.DictionaryLoader;
+import org.team11.TypingMechanism.WordIndex;
+import org.team11.TypingMechanism.WordsSetting;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadHarnessTest {
+
+    private static WordIndex words;
+
+    @BeforeAll
+    static void loadWords() throws IOException {
+        words = DictionaryLoader.load();
+    }
+
+    @Test
+    void testPerfectTypistNeverMisses() {
+        SessionReport report = LoadHarness.play(words, new TypistProfile(120, 0, 200), 1);
+        assertEquals(0, report.getWrongSubmissions());
+        assertEquals(0, report.getExpired());
+        assertEquals(report.getKills() * GameEngine.WORD_POINTS, report.getScore());
+        assertTrue(report.getLevel() > 1);
+    }
+
+    @Test
+    void testSlowTypistRunsOutOfLives() {
+        SessionReport report = LoadHarness.play(words, new TypistProfile(5, 0.2, 2000), 1);
+        assertEquals(0, report.getLives());
+        assertTrue(report.getSimulatedMillis() < WordsSetting.GAME_LENGTH);
+        assertTrue(report.getExpired() >= GameEngine.START_LIVES);
+    }
+
+    @Test
+    void testParallelRunIsReproducible() throws InterruptedException {
+        TypistProfile profile = new TypistProfile(45, 0.05, 400);
+        List<SessionReport> serial = LoadHarness.run(words, profile, 8, 1, 7);
+        List<SessionReport> parallel = LoadHarness.run(words, profile, 8, 4, 7);
+        assertEquals(8, parallel.size());
+        for (int i = 0; i < serial.size(); i++) {
+            assertEquals(serial.get(i).getKills(), parallel.get(i).getKills());
+            assertEquals(serial.get(i).getWrongSubmissions(), parallel.get(i).getWrongSubmissions());
+            assertEquals(serial.get(i).getSimulatedMillis(), parallel.get(i).getSimulatedMillis());
+        }
+    }
+
+    @Test
+    void testRejectsBadProfile() {
+        assertThrows(IllegalArgumentException.class, () -> new TypistProfile(0, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new TypistProfile(40, 1.5, 0));
+    }
+}
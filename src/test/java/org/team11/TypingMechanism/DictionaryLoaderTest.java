@@ -0,0 +1,198 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/18/2026
+ * Time: 2:05 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.TypingMechanism;
+ * Class: DictionaryLoaderTest
+ *
+ * Description: A test for the DictionaryLoader and WordIndex classes, including the dictionary pack
+ * **************************************
+ */
+package org.team11.TypingMechanism;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DictionaryLoaderTest {
+
+    @Test
+    void testIndexGroupsByLength() {
+        WordIndex index = DictionaryLoader.index(ByteBuffer.wrap("cat\ndog\nhorse\n\nox".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(4, index.size());
+        assertEquals(2, index.count(3));
+        assertEquals(1, index.count(5));
+        assertEquals(1, index.count(2));
+        assertEquals(0, index.count(4));
+        assertEquals("cat", index.wordAt(3, 0));
+        assertEquals("dog", index.wordAt(3, 1));
+        assertEquals("horse", index.wordAt(5, 0));
+        assertEquals("ox", index.wordAt(2, 0));
+    }
+
+    @Test
+    void testIndexHandlesCarriageReturnsAndUtf8() {
+        WordIndex index = DictionaryLoader.index(ByteBuffer.wrap("caf\u00e9\r\nto\r\n".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("caf\u00e9", index.wordAt(4, 0));
+        assertEquals("to", index.wordAt(2, 0));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void testEmptyIndex() {
+        WordIndex index = DictionaryLoader.index(ByteBuffer.allocate(0));
+        assertEquals(0, index.size());
+        assertEquals(0, index.count(3));
+    }
+
+    @Test
+    void testLoadsBundledDictionaryFromClassPath() throws IOException {
+        WordIndex index = DictionaryLoader.load();
+        assertEquals(999, index.size());
+        assertEquals(25, index.count(2));
+        assertTrue(index.hasScores(), "The compiled pack carries the difficulty scores");
+        for (int slot = 0; slot < index.count(5); slot++) {
+            assertEquals(WordDifficulty.score(index.wordAt(5, slot)), index.getScore(5, slot), 1e-5f);
+        }
+    }
+
+    @Test
+    void testLoadsFileByPath(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("words");
+        Files.writeString(file, "alpha\nbeta\n");
+        WordIndex index = DictionaryLoader.load(file);
+        assertEquals("beta", index.wordAt(4, 0));
+        assertEquals("alpha", index.wordAt(5, 0));
+    }
+
+    @Test
+    void testReadsPack() {
+        byte[] text = "cat\ndog\nox\n".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer pack = ByteBuffer.wrap(writePack(text, new int[]{0, 0, 1, 2}, "ox\ncat\ndog\n"));
+        assertTrue(DictionaryLoader.isPack(pack));
+        assertTrue(DictionaryLoader.isPackOf(pack, ByteBuffer.wrap(text)));
+
+        WordIndex index = DictionaryLoader.readPack(pack);
+        assertNotNull(index);
+        assertEquals(3, index.size());
+        assertEquals("ox", index.wordAt(2, 0));
+        assertEquals("cat", index.wordAt(3, 0));
+        assertEquals("dog", index.wordAt(3, 1));
+        assertFalse(index.hasScores());
+    }
+
+    @Test
+    void testDetectsStalePack() {
+        byte[] text = "cat\ndog\nox\n".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer pack = ByteBuffer.wrap(writePack(text, new int[]{0, 0, 1, 2}, "ox\ncat\ndog\n"));
+        ByteBuffer edited = ByteBuffer.wrap("cat\ndog\nok\n".getBytes(StandardCharsets.UTF_8));
+        assertFalse(DictionaryLoader.isPackOf(pack, edited));
+    }
+
+    @Test
+    void testRejectsTruncatedPack() {
+        byte[] text = "cat\n".getBytes(StandardCharsets.UTF_8);
+        byte[] pack = writePack(text, new int[]{0, 0, 0, 1}, "cat\n");
+        ByteBuffer truncated = ByteBuffer.wrap(pack, 0, pack.length - 2).slice();
+        assertNull(DictionaryLoader.readPack(truncated));
+    }
+
+    @Test
+    void testRejectsNegativeCounts() {
+        byte[] text = "cat\ndog\nox\n".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer pack = ByteBuffer.wrap(writePack(text, new int[]{0, 0, 1, 2}, "ox\ncat\ndog\n"));
+        // Counts of -1 and 4 still add up to the word count
+        pack.putInt(40, -1);
+        pack.putInt(44, 4);
+        assertNull(DictionaryLoader.readPack(pack));
+    }
+
+    @Test
+    void testRejectsCountsNotMatchingWordCount() {
+        byte[] text = "cat\ndog\nox\n".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer pack = ByteBuffer.wrap(writePack(text, new int[]{0, 0, 1, 2}, "ox\ncat\ndog\n"));
+        pack.putInt(28, 4);
+        assertNull(DictionaryLoader.readPack(pack));
+    }
+
+    @Test
+    void testRejectsStartsOutsideTheWords(@TempDir Path dir) throws IOException {
+        byte[] text = "cat\ndog\nox\n".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer pack = ByteBuffer.wrap(writePack(text, new int[]{0, 0, 1, 2}, "ox\ncat\ndog\n"));
+        // The start of "dog" moved to the end of the 11 bytes of words
+        pack.putInt(56, 11);
+        assertNull(DictionaryLoader.readPack(pack));
+        pack.putInt(56, -1);
+        assertNull(DictionaryLoader.readPack(pack));
+
+        Path file = dir.resolve("words.pack");
+        Files.write(file, pack.array());
+        assertThrows(IOException.class, () -> DictionaryLoader.load(file));
+    }
+
+    @Test
+    void testLoadsPackByPath(@TempDir Path dir) throws IOException {
+        byte[] text = "ox\n".getBytes(StandardCharsets.UTF_8);
+        Path file = dir.resolve("words.pack");
+        Files.write(file, writePack(text, new int[]{0, 0, 1}, "ox\n"));
+        assertEquals("ox", DictionaryLoader.load(file).wordAt(2, 0));
+    }
+
+    /**
+     * Writes a pack the same way the compileDictionary Gradle task does
+     * @param text the source text the pack claims to come from
+     * @param counts number of words of each length
+     * @param words the words, sorted by length, each followed by a newline
+     * @return the pack
+     */
+    private static byte[] writePack(byte[] text, int[] counts, String words) {
+        try {
+            CRC32 crc = new CRC32();
+            crc.update(text);
+            byte[] wordBytes = words.getBytes(StandardCharsets.UTF_8);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            int wordCount = 0;
+            for (int count : counts) {
+                wordCount += count;
+            }
+            out.writeInt(DictionaryLoader.PACK_MAGIC);
+            out.writeInt(DictionaryLoader.PACK_VERSION);
+            out.writeLong(text.length);
+            out.writeInt((int) crc.getValue());
+            out.writeInt(0);
+            out.writeInt(counts.length);
+            out.writeInt(wordCount);
+            for (int count : counts) {
+                out.writeInt(count);
+            }
+            for (int i = 0; i < wordBytes.length; i++) {
+                if (i == 0 || wordBytes[i - 1] == '\n') {
+                    out.writeInt(i);
+                }
+            }
+            out.writeInt(wordBytes.length);
+            out.write(wordBytes);
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/25/2026
+ * Time: 4:00 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.TypingMechanism
+ * Class: DifficultyIndexTest
+ *
+ * Description: A test for the WordDifficulty scores and the DifficultyIndex band queries
+ * **************************************
+ */
+package org.team11.TypingMechanism;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DifficultyIndexTest {
+
+    /**
+     * @param words one per line
+     * @return an index over the words
+     */
+    private static WordIndex index(String words) {
+        return DictionaryLoader.index(ByteBuffer.wrap(words.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testScoreFeatures() {
+        // Alternating hands is easier than one hand, for the same travel
+        assertTrue(WordDifficulty.score("tr") > WordDifficulty.score("ty"));
+        // Rare letters, repeats and longer words are harder
+        assertTrue(WordDifficulty.score("zq") > WordDifficulty.score("et"));
+        assertTrue(WordDifficulty.score("tat") > WordDifficulty.score("tar"));
+        assertTrue(WordDifficulty.score("eerie") > WordDifficulty.score("tea"));
+        assertEquals(0, WordDifficulty.score(""));
+        assertEquals(WordDifficulty.score("Word"), WordDifficulty.score("word"));
+    }
+
+    @Test
+    void testBytesScoreLikeText() {
+        ByteBuffer data = ByteBuffer.wrap("keyboard\r\ncaf\u00e9\n".getBytes(StandardCharsets.UTF_8));
+        assertEquals(WordDifficulty.score("keyboard"), WordDifficulty.score(data, 0));
+        assertEquals(WordDifficulty.score("caf\u00e9"), WordDifficulty.score(data, 10));
+    }
+
+    @Test
+    void testWordsAreSortedByScore() {
+        WordIndex words = index("quizzical\nto\nkeyboard\nat\nbe\nzephyr\n");
+        DifficultyIndex index = DifficultyIndex.build(words);
+        assertEquals(6, index.size());
+        for (int rank = 1; rank < index.size(); rank++) {
+            assertTrue(index.scoreAt(rank - 1) <= index.scoreAt(rank));
+            assertEquals(WordDifficulty.score(index.wordAt(rank)), index.scoreAt(rank));
+        }
+        assertEquals("quizzical", index.wordAt(index.size() - 1));
+        assertSame(words.byDifficulty(), words.byDifficulty());
+    }
+
+    @Test
+    void testBandQueries() {
+        DifficultyIndex index = DifficultyIndex.build(index("quizzical\nto\nkeyboard\nat\nbe\nzephyr\n"));
+        float from = index.scoreAt(1);
+        float to = index.scoreAt(4);
+        assertEquals(1, index.rankOf(from));
+        assertEquals(3, index.count(from, to));
+        assertEquals(List.of(index.wordAt(1), index.wordAt(2), index.wordAt(3)),
+                index.band(from, to, 10, new Random(1)));
+
+        List<String> two = index.band(from, to, 2, new Random(1));
+        assertEquals(2, new HashSet<>(two).size());
+        assertTrue(List.of(index.wordAt(1), index.wordAt(2), index.wordAt(3)).containsAll(two));
+
+        assertEquals(0, index.count(to, from));
+        assertTrue(index.band(1000, 2000, 5, new Random(1)).isEmpty());
+        assertEquals(index.size(), index.rankOf(Float.MAX_VALUE));
+    }
+
+    @Test
+    void testLargeCorpus() {
+        // Many words, so every parallel pass is split across threads
+        Random rand = new Random(205);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            int length = 2 + rand.nextInt(10);
+            for (int c = 0; c < length; c++) {
+                text.append((char) ('a' + rand.nextInt(26)));
+            }
+            text.append('\n');
+        }
+        DifficultyIndex index = DifficultyIndex.build(index(text.toString()));
+        assertEquals(100_000, index.size());
+        for (int rank = 1; rank < index.size(); rank++) {
+            assertTrue(index.scoreAt(rank - 1) <= index.scoreAt(rank));
+        }
+        String hardest = index.wordAt(index.size() - 1);
+        assertEquals(WordDifficulty.score(hardest), index.scoreAt(index.size() - 1));
+    }
+
+    @Test
+    void testDictionaryDrawsByDifficulty() {
+        WordDictionary dictionary = new WordDictionary(new Random(7));
+        List<String> words = dictionary.getWords(4, 6, 5);
+        assertEquals(5, words.size());
+        for (String word : words) {
+            float score = WordDifficulty.score(word);
+            assertTrue(score >= 4 && score < 6, word + " scored " + score);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/18/2026
+ * Time: 6:15 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.TypingMechanism;
+ * Class: PrefixMatcherTest
+ *
+ * Description: A test for the PrefixMatcher class
+ * **************************************
+ */
+package org.team11.TypingMechanism;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefixMatcherTest {
+
+    private PrefixMatcher<String> matcher;
+
+    @BeforeEach
+    void setUp() {
+        matcher = new PrefixMatcher<>();
+        matcher.add("cat", "ghostCat");
+        matcher.add("car", "ghostCar");
+        matcher.add("dog", "ghostDog");
+    }
+
+    @Test
+    void testNarrowsCandidatesAsYouType() {
+        assertTrue(matcher.type('c'));
+        assertEquals(2, matcher.getCandidateCount());
+        assertEquals(1, matcher.matchedLength("cat"));
+        assertEquals(1, matcher.matchedLength("car"));
+        assertEquals(0, matcher.matchedLength("dog"));
+
+        assertTrue(matcher.type('A'));
+        assertTrue(matcher.type('r'));
+        assertEquals(1, matcher.getCandidateCount());
+        assertEquals(3, matcher.matchedLength("car"));
+        assertEquals(0, matcher.matchedLength("cat"));
+        assertEquals("ghostCar", matcher.exactMatch());
+    }
+
+    @Test
+    void testNoMatch() {
+        assertFalse(matcher.type('x'));
+        assertFalse(matcher.hasCandidates());
+        assertNull(matcher.exactMatch());
+        assertEquals(0, matcher.getCandidateCount());
+        assertEquals(0, matcher.matchedLength("cat"));
+    }
+
+    @Test
+    void testResetClearsHighlights() {
+        matcher.type('d');
+        matcher.reset();
+        assertEquals(0, matcher.matchedLength("dog"));
+        assertEquals(3, matcher.getCandidateCount());
+        assertEquals(0, matcher.getDepth());
+    }
+
+    @Test
+    void testRemovedWordNoLongerMatches() {
+        assertTrue(matcher.remove("dog", "ghostDog"));
+        assertFalse(matcher.remove("dog", "ghostDog"));
+        assertFalse(matcher.type('d'));
+        assertEquals(2, matcher.size());
+    }
+
+    @Test
+    void testGhostSpawnedWhileTyping() {
+        matcher.type('d');
+        matcher.type('o');
+        matcher.add("dot", "ghostDot");
+        assertEquals(2, matcher.matchedLength("dot"));
+        matcher.type('t');
+        assertEquals("ghostDot", matcher.exactMatch());
+    }
+
+    @Test
+    void testDuplicateWords() {
+        matcher.add("cat", "secondCat");
+        matcher.type('c');
+        matcher.type('a');
+        matcher.type('t');
+        assertEquals("ghostCat", matcher.exactMatch());
+        matcher.remove("cat", "ghostCat");
+        assertEquals("secondCat", matcher.exactMatch());
+    }
+
+    @Test
+    void testRemovingKeepsTheOtherGhostsInOrder() {
+        matcher.add("cat", "secondCat");
+        matcher.add("cat", "thirdCat");
+        assertTrue(matcher.remove("cat", "secondCat"));
+        matcher.type('c');
+        matcher.type('a');
+        matcher.type('t');
+        assertEquals(2, matcher.getCandidateCount());
+        assertEquals("ghostCat", matcher.exactMatch());
+        matcher.remove("cat", "ghostCat");
+        assertEquals("thirdCat", matcher.exactMatch());
+        matcher.remove("cat", "thirdCat");
+        assertNull(matcher.exactMatch());
+        assertFalse(matcher.hasCandidates());
+    }
+
+    @Test
+    void testCandidatesOfManyGhosts() {
+        for (int i = 0; i < 500; i++) {
+            matcher.add("ca" + i, "ghost" + i);
+        }
+        matcher.type('c');
+        assertEquals(502, matcher.getCandidateCount());
+        matcher.type('a');
+        matcher.type('4');
+        assertEquals(111, matcher.getCandidateCount(), "ca4 and ca40 to ca499");
+        matcher.reset();
+        assertEquals(503, matcher.getCandidateCount());
+        assertEquals(0, matcher.matchedLength("ca4"));
+    }
+
+    @Test
+    void testRecyclesNodes() {
+        for (int i = 0; i < 1000; i++) {
+            String ghost = "ghost" + i;
+            matcher.add("word" + i, ghost);
+            assertTrue(matcher.remove("word" + i, ghost));
+        }
+        matcher.type('c');
+        matcher.type('a');
+        matcher.type('t');
+        assertEquals("ghostCat", matcher.exactMatch());
+        assertEquals(3, matcher.size());
+    }
+}
@@ -0,0 +1,119 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/26/2026
+ * Time: 2:30 PM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.TypingMechanism
+ * Class: TypoMatcherTest
+ *
+ * Description: A test for the TypoMatcher class and its bit-parallel edit distance
+ * **************************************
+ */
+package org.team11.TypingMechanism;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TypoMatcherTest {
+
+    @Test
+    void testDistanceMatchesDynamicProgram() {
+        TypoMatcher matcher = new TypoMatcher(1);
+        Random rand = new Random(205);
+        for (int i = 0; i < 5000; i++) {
+            String a = randomWord(rand, rand.nextInt(12));
+            String b = randomWord(rand, rand.nextInt(12));
+            assertEquals(TypoMatcher.levenshtein(a, b), matcher.distance(a, b), a + " / " + b);
+        }
+        assertEquals(3, matcher.distance("kitten", "sitting"));
+        assertEquals(1, matcher.distance("caf\u00e9", "cafe"));
+        String longWord = "a".repeat(70);
+        assertEquals(2, matcher.distance(longWord, longWord + "bb"));
+    }
+
+    /**
+     * @param rand source of randomness
+     * @param length of the word
+     * @return a word over a small alphabet, so the words share letters
+     */
+    private static String randomWord(Random rand, int length) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + rand.nextInt(4)));
+        }
+        return word.toString();
+    }
+
+    @Test
+    void testClosestWord() {
+        TypoMatcher matcher = new TypoMatcher(1);
+        matcher.add("ghost");
+        matcher.add("frenzy");
+        assertEquals("ghost", matcher.closest("ghost"));
+        assertEquals(0, matcher.getDistance());
+        assertEquals("ghost", matcher.closest("ghst"));
+        assertEquals(1, matcher.getDistance());
+        assertEquals("frenzy", matcher.closest("frenzyy"));
+        assertEquals("frenzy", matcher.closest("frensy"));
+        assertNull(matcher.closest("frnsy"));
+        assertEquals(-1, matcher.getDistance());
+        assertNull(matcher.closest(""));
+    }
+
+    @Test
+    void testTwoTyposAndTies() {
+        TypoMatcher matcher = new TypoMatcher(2);
+        matcher.add("heart");
+        matcher.add("hears");
+        matcher.add("ghost");
+        assertEquals("hears", matcher.closest("hear"), "Ties go to the first word alphabetically");
+        assertEquals("ghost", matcher.closest("gohst"));
+        assertEquals(2, matcher.getDistance());
+        assertThrows(IllegalArgumentException.class, () -> new TypoMatcher(TypoMatcher.MAX_DISTANCE + 1));
+    }
+
+    @Test
+    void testShortWordsTolerateFewerTypos() {
+        TypoMatcher matcher = new TypoMatcher(2);
+        assertEquals(0, matcher.tolerance("w0"));
+        assertEquals(1, matcher.tolerance("cat"));
+        assertEquals(1, matcher.tolerance("ears"));
+        assertEquals(2, matcher.tolerance("ghost"));
+
+        matcher.add("w0");
+        matcher.add("at");
+        matcher.add("cat");
+        matcher.add("ghost");
+        assertNull(matcher.closest("w"), "Two-letter words must be typed exactly");
+        assertNull(matcher.closest("a"));
+        assertEquals("w0", matcher.closest("w0"));
+        assertEquals("cat", matcher.closest("ct"));
+        assertEquals(1, matcher.getDistance());
+        assertNull(matcher.closest("c"), "Three-letter words take a single typo");
+        assertNull(matcher.closest("act"));
+        assertEquals("ghost", matcher.closest("gst"));
+        assertEquals(2, matcher.getDistance());
+    }
+
+    @Test
+    void testRemovedWordsAreNotMatched() {
+        TypoMatcher matcher = new TypoMatcher(1);
+        matcher.add("ghost");
+        matcher.add("ghost");
+        matcher.remove("ghost");
+        assertEquals("ghost", matcher.closest("ghst"), "One ghost still carries the word");
+        matcher.remove("ghost");
+        assertNull(matcher.closest("ghst"));
+        assertEquals(0, matcher.size());
+        matcher.remove("unknown");
+    }
+}
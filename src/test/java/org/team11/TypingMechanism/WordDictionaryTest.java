@@ -20,7 +20,20 @@ package org.team11.TypingMechanism;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class WordDictionaryTest {
 
@@ -47,6 +60,67 @@ class WordDictionaryTest {
 
     }
 
+    @Test
+    void testNoRepeatsWithinBucket() {
+        // There are 25 two-letter words in the dictionary
+        Set<String> drawn = new HashSet<>();
+        for (int i = 0; i < 25; i++) {
+            assertTrue(drawn.add(dictionary.getWord(1)), "A word should not repeat before the bucket runs out");
+        }
+        // The bucket refills instead of spinning forever
+        assertEquals(2, dictionary.getWord(1).length());
+    }
+
+    @Test
+    void testMissingLengthFallsBack() {
+        String word = dictionary.getWord(40);
+        assertNotNull(word);
+        assertFalse(word.isEmpty());
+    }
+
+    @Test
+    void testSessionsShareOneIndex() {
+        assertSame(WordDictionary.cachedIndex(), WordDictionary.cachedIndex());
+        assertEquals(WordDictionary.cachedIndex().size(), dictionary.size());
+    }
+
+    @Test
+    void testSessionsDrawIndependently() {
+        // Sessions with the same seed draw the same words, even when their draws interleave
+        WordDictionary reference = new WordDictionary(new Random(205));
+        WordDictionary first = new WordDictionary(new Random(205));
+        WordDictionary second = new WordDictionary(new Random(205));
+        for (int i = 0; i < 10; i++) {
+            String expected = reference.getWord(3);
+            assertEquals(expected, first.getWord(3));
+            assertEquals(expected, second.getWord(3));
+        }
+    }
+
+    @Test
+    void testConcurrentSessions() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                results.add(pool.submit(() -> {
+                    WordDictionary session = new WordDictionary(new Random(11));
+                    List<String> words = new ArrayList<>();
+                    for (int i = 0; i < 1000; i++) {
+                        words.add(session.getWord(1 + i % 7));
+                    }
+                    return words;
+                }));
+            }
+            List<String> expected = results.get(0).get();
+            for (Future<List<String>> result : results) {
+                assertEquals(expected, result.get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
 
 
 
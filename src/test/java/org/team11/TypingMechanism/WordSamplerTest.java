@@ -0,0 +1,107 @@
+/* ***************************************
+ * CSCI 205 - Software Engineering and Design
+ * Spring 2024
+ * Instructor: Prof. Lily Romano / Prof. Joshua Stough
+ *
+ * Name: Team 11
+ * Section: 02
+ * Date: 10/18/2026
+ * Time: 11:45 AM
+ *
+ * Project: csci205_final_project
+ * Package: org.team11.TypingMechanism;
+ * Class: WordSamplerTest
+ *
+ * Description: A test for the WordSampler class
+ * **************************************
+ */
+package org.team11.TypingMechanism;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordSamplerTest {
+
+    private WordSampler sampler;
+
+    @BeforeEach
+    void setUp() {
+        sampler = new WordSampler(50, new Random(11));
+    }
+
+    @Test
+    void testDrawsEverySlotOncePerPass() {
+        BitSet seen = new BitSet();
+        for (int i = 0; i < 50; i++) {
+            int slot = sampler.next();
+            assertFalse(seen.get(slot), "A slot should not be drawn twice in one pass");
+            assertTrue(sampler.isUsed(slot));
+            seen.set(slot);
+        }
+        assertEquals(50, seen.cardinality());
+        assertEquals(0, sampler.remaining());
+    }
+
+    @Test
+    void testRefillsWhenExhausted() {
+        for (int i = 0; i < 50; i++) {
+            sampler.next();
+        }
+        int slot = sampler.next();
+        assertTrue(slot >= 0 && slot < 50);
+        assertEquals(1, sampler.getPasses());
+        assertEquals(49, sampler.remaining());
+    }
+
+    @Test
+    void testMemoryGrowsWithTheDraws() {
+        WordSampler large = new WordSampler(10_000_000, new Random(11));
+        BitSet seen = new BitSet();
+        for (int i = 0; i < 100; i++) {
+            int slot = large.next();
+            assertFalse(seen.get(slot));
+            seen.set(slot);
+        }
+        assertTrue(large.getFootprint() <= 300, "At most three entries per draw");
+        assertTrue(large.isUsed(seen.nextSetBit(0)));
+        assertFalse(large.isUsed(seen.nextClearBit(0)));
+
+        large.refill();
+        assertEquals(0, large.getFootprint());
+        assertFalse(large.isUsed(seen.nextSetBit(0)));
+    }
+
+    @Test
+    void testPassesOverManySlots() {
+        WordSampler many = new WordSampler(1000, new Random(205));
+        for (int pass = 0; pass < 3; pass++) {
+            BitSet seen = new BitSet();
+            for (int i = 0; i < 1000; i++) {
+                int slot = many.next();
+                assertFalse(seen.get(slot));
+                seen.set(slot);
+            }
+            assertEquals(1000, seen.cardinality());
+            for (int slot = 0; slot < 1000; slot++) {
+                assertTrue(many.isUsed(slot));
+            }
+        }
+    }
+
+    @Test
+    void testSingleSlot() {
+        WordSampler single = new WordSampler(1, new Random());
+        assertEquals(0, single.next());
+        assertEquals(0, single.next());
+    }
+
+    @Test
+    void testRejectsEmptyBucket() {
+        assertThrows(IllegalArgumentException.class, () -> new WordSampler(0, new Random()));
+    }
+}